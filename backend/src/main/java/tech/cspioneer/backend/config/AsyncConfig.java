@@ -21,4 +21,26 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    @Bean(name = "pushExecutor")
+    public Executor pushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); // SSE 推送线程，写入客户端连接
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Push-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "contentFetchExecutor")
+    public Executor contentFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4); // 新闻正文下载线程，HttpClient 连接池共用
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ContentFetch-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package tech.cspioneer.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 定时任务线程配置。
+ * 调度线程只运行短周期任务（outbox 轮询、SSE 心跳、统计刷新等）；
+ * 归档、索引重建、对账等可能持续数分钟的任务标注 @Async("batchJobExecutor")，由调度线程提交到独立线程池执行，
+ * 短周期任务不会排在它们后面。
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @Bean(name = "batchJobExecutor")
+    public Executor batchJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2); // 长时间运行的批处理任务，各任务自身串行执行
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10); // 队列满时拒绝本次调度，由调度器记录日志，下个周期再执行
+        executor.setThreadNamePrefix("BatchJob-");
+        executor.initialize();
+        return executor;
+    }
+}
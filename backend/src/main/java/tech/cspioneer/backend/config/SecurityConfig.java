@@ -12,6 +12,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.AuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -65,6 +66,8 @@ public class SecurityConfig {
             )
             // 配置授权规则
             .authorizeHttpRequests(authorize -> authorize
+                // SSE 连接结束时的异步派发不经过 JWT 过滤器，首次请求已完成鉴权
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 允许所有人访问 Auth 控制器的所有端点
                 .requestMatchers("/api/auth/**").permitAll()
                 // 具体放开 Auth 控制器中的端点
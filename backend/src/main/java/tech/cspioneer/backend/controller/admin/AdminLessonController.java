@@ -2,14 +2,19 @@ package tech.cspioneer.backend.controller.admin;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import tech.cspioneer.backend.entity.User;
 import tech.cspioneer.backend.entity.dto.request.*;
+import tech.cspioneer.backend.entity.dto.response.LessonArchiveStatusResponse;
+import tech.cspioneer.backend.entity.dto.response.LessonDeleteJobResponse;
 import tech.cspioneer.backend.exception.LessonServiceException;
 import tech.cspioneer.backend.mapper.UserMapper;
 import tech.cspioneer.backend.model.response.ApiResponse;
+import tech.cspioneer.backend.service.LessonArchiveService;
+import tech.cspioneer.backend.service.LessonDeleteJobService;
 import tech.cspioneer.backend.service.LessonService;
 import tech.cspioneer.backend.utils.JwtUtils;
 
@@ -26,6 +31,10 @@ public class AdminLessonController {
     private JwtUtils jwtUtils;
     @Autowired
     private UserMapper userMapper;
+    @Autowired
+    private LessonArchiveService lessonArchiveService;
+    @Autowired
+    private LessonDeleteJobService lessonDeleteJobService;
 
     @PostMapping("/admin/lesson/upload")
     public ResponseEntity<ApiResponse<Void>> uploadLesson(@RequestBody LessonUploadRequest lessonUploadRequest,
@@ -143,13 +152,29 @@ public class AdminLessonController {
 
         try {
             System.out.println("权限检查通过，准备调用服务层删除课程...");
+            if (lessonDeleteJobService.shouldRunInBackground(uuids.size())) {
+                // 超大批量转为后台分片任务，通过任务ID查询进度
+                LessonDeleteJobResponse job = lessonDeleteJobService.submit(uuids);
+                return ResponseEntity.accepted().body(Map.of("code", 202, "message", "删除任务已提交", "data", job));
+            }
             int deleted = lessonService.deleteLesson(uuids);
             return ResponseEntity.ok().body(Map.of("code", 200, "message", "删除成功", "data", deleted));
+        } catch (LessonServiceException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(4001, e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body(ApiResponse.error(5000, "服务器内部错误"));
         }
     }
 
+    @GetMapping("/admin/lesson/delete/jobs/{jobId}")
+    public ResponseEntity<?> getDeleteLessonJob(@PathVariable String jobId) {
+        LessonDeleteJobResponse job = lessonDeleteJobService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.status(404).body(ApiResponse.error(404, "删除任务不存在或已过期"));
+        }
+        return ResponseEntity.ok(ApiResponse.success(job));
+    }
+
     @GetMapping("/admin/lesson/review/overview")
     public ResponseEntity<?> overviewLesson(
         @RequestParam(value = "name", required = false) String name,
@@ -301,6 +326,12 @@ public class AdminLessonController {
         }
     }
 
+    @GetMapping("/root/lesson/archive/status")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ApiResponse<LessonArchiveStatusResponse>> getLessonArchiveStatus() {
+        return ResponseEntity.ok(ApiResponse.success(lessonArchiveService.getStatus()));
+    }
+
     @GetMapping("/admin/lesson/company")
     public ResponseEntity<?> getCompanyLessons(
             @RequestParam(value = "uuid", required = false) String lessonUuid,
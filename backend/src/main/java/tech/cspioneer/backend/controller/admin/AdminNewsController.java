@@ -12,12 +12,16 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import tech.cspioneer.backend.entity.dto.request.NewsAuditReviewRequest;
+import tech.cspioneer.backend.entity.dto.request.NewsBulkAuditRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUploadRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUpdateRequest;
 import tech.cspioneer.backend.entity.dto.response.*;
 import tech.cspioneer.backend.exception.LessonServiceException;
 import tech.cspioneer.backend.exception.NewsServiceException;
 import tech.cspioneer.backend.model.response.ApiResponse;
+import tech.cspioneer.backend.service.NewsCacheService;
+import tech.cspioneer.backend.service.NewsContentCompactionService;
+import tech.cspioneer.backend.service.NewsFeedService;
 import tech.cspioneer.backend.service.NewsService;
 import tech.cspioneer.backend.utils.JwtUtils;
 
@@ -32,6 +36,12 @@ public class AdminNewsController{
     private NewsService newsService;
     @Autowired
     private JwtUtils jwtUtils;
+    @Autowired
+    private NewsCacheService newsCacheService;
+    @Autowired
+    private NewsContentCompactionService newsContentCompactionService;
+    @Autowired
+    private NewsFeedService newsFeedService;
     Logger logger = LoggerFactory.getLogger(AdminNewsController.class);
     @PostMapping("/admin/news/upload")
     @PreAuthorize("hasAnyAuthority('COMPANY','ADMIN')")
@@ -179,9 +189,24 @@ public class AdminNewsController{
         return ResponseEntity.ok(ApiResponse.success("审核完毕"));
     }
 
+    @PostMapping("/root/news/auditNews/batch")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ApiResponse<?>> bulkAuditNews(
+            @AuthenticationPrincipal String adminUuid,
+            @RequestBody NewsBulkAuditRequest request) {
+        try {
+            NewsBulkAuditResponse response = newsService.bulkAuditNews(adminUuid, request);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (NewsServiceException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
+
     @GetMapping("admin/news/auditHistoryList/{uuid}")
     @PreAuthorize("hasAnyAuthority('COMPANY','ADMIN')")
-    public ResponseEntity<ApiResponse<?>> getNewsAuditHistoryList(@PathVariable String uuid) {
+    public ResponseEntity<ApiResponse<?>> getNewsAuditHistoryList(
+            @PathVariable String uuid,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userUuid = (String) authentication.getPrincipal();
         // 获取用户身份/角色
@@ -189,7 +214,25 @@ public class AdminNewsController{
                 .findFirst()
                 .map(authority -> authority.getAuthority())
                 .orElse("UNKNOWN");
-        List<NewsHistoryResponse> newsAuditListResponses = newsService.getNewsAuditHistoryList(uuid,userUuid,identity);
+        List<NewsHistoryResponse> newsAuditListResponses = newsService.getNewsAuditHistoryList(uuid,userUuid,identity,includeArchived);
         return ResponseEntity.ok(ApiResponse.success(newsAuditListResponses));
     }
+
+    @GetMapping("/root/news/cache/metrics")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ApiResponse<NewsCacheMetricsResponse>> getNewsCacheMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(newsCacheService.getMetrics()));
+    }
+
+    @GetMapping("/root/news/compaction/status")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ApiResponse<NewsCompactionStatusResponse>> getNewsCompactionStatus() {
+        return ResponseEntity.ok(ApiResponse.success(newsContentCompactionService.getStatus()));
+    }
+
+    @PostMapping("/root/news/feed/rebuild")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ApiResponse<Long>> rebuildNewsFeed() {
+        return ResponseEntity.ok(ApiResponse.success(200, "新闻列表视图已重建", newsFeedService.rebuild()));
+    }
 }
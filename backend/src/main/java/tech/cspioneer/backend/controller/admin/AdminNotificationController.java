@@ -6,7 +6,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import tech.cspioneer.backend.entity.Notification;
 import tech.cspioneer.backend.entity.dto.request.AnnouncementRequest;
+import tech.cspioneer.backend.entity.dto.response.AudienceIndexMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.BackfillStatusResponse;
+import tech.cspioneer.backend.entity.dto.response.FanoutMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.OutboxMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.PushMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.RetentionStatusResponse;
 import tech.cspioneer.backend.model.response.ApiResponse;
+import tech.cspioneer.backend.service.NotificationAudienceService;
+import tech.cspioneer.backend.service.NotificationBackfillService;
+import tech.cspioneer.backend.service.NotificationFanoutService;
+import tech.cspioneer.backend.service.NotificationOutboxService;
+import tech.cspioneer.backend.service.NotificationPushService;
+import tech.cspioneer.backend.service.NotificationRetentionService;
 import tech.cspioneer.backend.service.NotificationService;
 
 @RestController
@@ -15,6 +27,12 @@ import tech.cspioneer.backend.service.NotificationService;
 public class AdminNotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationFanoutService notificationFanoutService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final NotificationBackfillService notificationBackfillService;
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationAudienceService notificationAudienceService;
 
     /**
      * [ADMIN] 分页获取系统中的所有通知
@@ -48,4 +66,58 @@ public class AdminNotificationController {
         
         return ResponseEntity.ok(ApiResponse.success(202, "Announcement distribution started.", null));
     }
+
+    /**
+     * [ADMIN] 获取通知分发引擎的吞吐与延迟指标
+     * @return 指标快照
+     */
+    @GetMapping("/fanout/metrics")
+    public ResponseEntity<ApiResponse<FanoutMetricsResponse>> getFanoutMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Fan-out metrics retrieved successfully.", notificationFanoutService.getMetrics()));
+    }
+
+    /**
+     * [ADMIN] 获取本节点实时推送的连接数与丢弃事件数
+     * @return 指标快照
+     */
+    @GetMapping("/push/metrics")
+    public ResponseEntity<ApiResponse<PushMetricsResponse>> getPushMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Push metrics retrieved successfully.", notificationPushService.getMetrics()));
+    }
+
+    /**
+     * [ADMIN] 获取通知 outbox 的队列深度与分发延迟
+     * @return 指标快照
+     */
+    @GetMapping("/outbox/metrics")
+    public ResponseEntity<ApiResponse<OutboxMetricsResponse>> getOutboxMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Outbox metrics retrieved successfully.", notificationOutboxService.getMetrics()));
+    }
+
+    /**
+     * [ADMIN] 获取历史通知关联对象UUID回填进度
+     * @return 进度快照
+     */
+    @GetMapping("/backfill/status")
+    public ResponseEntity<ApiResponse<BackfillStatusResponse>> getBackfillStatus() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Backfill status retrieved successfully.", notificationBackfillService.getStatus()));
+    }
+
+    /**
+     * [ADMIN] 获取通知归档任务的执行情况
+     * @return 状态快照
+     */
+    @GetMapping("/retention/status")
+    public ResponseEntity<ApiResponse<RetentionStatusResponse>> getRetentionStatus() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Retention status retrieved successfully.", notificationRetentionService.getStatus()));
+    }
+
+    /**
+     * [ADMIN] 获取通知受众索引的规模与构建耗时
+     * @return 指标快照
+     */
+    @GetMapping("/audience-index/metrics")
+    public ResponseEntity<ApiResponse<AudienceIndexMetricsResponse>> getAudienceIndexMetrics() {
+        return ResponseEntity.ok(ApiResponse.success(200, "Audience index metrics retrieved successfully.", notificationAudienceService.getMetrics()));
+    }
 }
@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.*;
 import tech.cspioneer.backend.entity.dto.request.NewsQueryRequest;
 import tech.cspioneer.backend.entity.dto.response.NewsDetailResponse;
 import tech.cspioneer.backend.entity.dto.response.NewsListResponse;
+import tech.cspioneer.backend.entity.dto.response.NewsTrendingResponse;
 import tech.cspioneer.backend.model.response.ApiResponse;
 import tech.cspioneer.backend.service.NewsService;
+import tech.cspioneer.backend.service.NewsViewService;
 
 import java.util.List;
 
@@ -23,6 +25,8 @@ import java.util.List;
 public class ClientNewsController{
     @Autowired
     private NewsService newsService;
+    @Autowired
+    private NewsViewService newsViewService;
 
     @GetMapping("/newsList")
     @PreAuthorize("hasAnyAuthority('USER','COMPANY','ADMIN')")
@@ -67,4 +71,12 @@ public class ClientNewsController{
         NewsDetailResponse response = newsService.getNewsDetail(uuid,userUuid,identity);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @GetMapping("/trending")
+    @PreAuthorize("hasAnyAuthority('USER','COMPANY','ADMIN')")
+    public ResponseEntity<ApiResponse<List<NewsTrendingResponse>>> getTrendingNews(
+            @RequestParam(defaultValue = "10") Integer limit) {
+        int size = Math.max(1, Math.min(limit, 50));
+        return ResponseEntity.ok(ApiResponse.success(newsViewService.getTrending(size)));
+    }
 }
@@ -2,10 +2,13 @@ package tech.cspioneer.backend.controller.client;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.cspioneer.backend.entity.dto.request.DeleteNotificationsRequest;
 import tech.cspioneer.backend.entity.dto.request.MarkNotificationsAsReadRequest;
 import tech.cspioneer.backend.entity.dto.response.NotificationResponse;
 import tech.cspioneer.backend.exception.ResourceNotFoundException;
@@ -28,6 +31,7 @@ public class NotificationController {
      * @param status 状态 (all, read, unread), 默认为 "all"
      * @param page 页码, 默认为 0
      * @param size 每页数量, 默认为 10
+     * @param includeArchived 是否包含已归档的历史通知, 默认为 false
      * @return 分页的通知数据
      */
     @GetMapping
@@ -35,13 +39,37 @@ public class NotificationController {
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(defaultValue = "all") String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
         String userUuid = userDetails.getUsername(); // JWT subject is user's UUID
-        Page<NotificationResponse> notificationPage = notificationService.getNotificationsByUserUuid(userUuid, status, page, size);
+        Page<NotificationResponse> notificationPage = notificationService.getNotificationsByUserUuid(userUuid, status, page, size, includeArchived);
         return ResponseEntity.ok(ApiResponse.success(200, "Notifications retrieved successfully.", notificationPage));
     }
 
+    /**
+     * 订阅当前用户的实时通知推送 (Server-Sent Events)，新通知以 "notification" 事件下发
+     * @param userDetails Spring Security 用户详情
+     * @return SSE 连接
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserDetails userDetails) {
+        String userUuid = userDetails.getUsername();
+        return notificationService.subscribe(userUuid);
+    }
+
+    /**
+     * 获取当前用户的未读通知数量（角标）
+     * @param userDetails Spring Security 用户详情
+     * @return 未读数量
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount(@AuthenticationPrincipal UserDetails userDetails) {
+        String userUuid = userDetails.getUsername();
+        long unreadCount = notificationService.getUnreadCount(userUuid);
+        return ResponseEntity.ok(ApiResponse.success(200, "Unread count retrieved successfully.", unreadCount));
+    }
+
     /**
      * 获取单条通知详情
      * @param userDetails Spring Security 用户详情
@@ -84,18 +112,20 @@ public class NotificationController {
      * 批量标记通知为已读
      * @param userDetails Spring Security 用户详情
      * @param request 包含通知UUID列表的请求体
-     * @return 操作结果
+     * @return 由未读变为已读的通知数量
      */
     @PatchMapping("/read")
-    public ResponseEntity<ApiResponse<Void>> markBatchAsRead(
+    public ResponseEntity<ApiResponse<Integer>> markBatchAsRead(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestBody MarkNotificationsAsReadRequest request) {
         try {
             String userUuid = userDetails.getUsername();
-            notificationService.markNotificationsAsRead(request.getNotificationUuids(), userUuid);
-            return ResponseEntity.ok(ApiResponse.success(200, "Notifications marked as read.", null));
+            int affected = notificationService.markNotificationsAsRead(request.getNotificationUuids(), userUuid);
+            return ResponseEntity.ok(ApiResponse.success(200, "Notifications marked as read.", affected));
         } catch (ResourceNotFoundException e) {
             return ResponseEntity.status(404).body(ApiResponse.error(404, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(400, e.getMessage()));
         }
     }
 
@@ -131,4 +161,25 @@ public class NotificationController {
             return ResponseEntity.status(404).body(ApiResponse.error(404, e.getMessage()));
         }
     }
+
+    /**
+     * 批量删除通知
+     * @param userDetails Spring Security 用户详情
+     * @param request 包含通知UUID列表的请求体
+     * @return 本次被删除的通知数量
+     */
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Integer>> deleteNotifications(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestBody DeleteNotificationsRequest request) {
+        try {
+            String userUuid = userDetails.getUsername();
+            int affected = notificationService.deleteNotifications(request.getNotificationUuids(), userUuid);
+            return ResponseEntity.ok(ApiResponse.success(200, "Notifications deleted successfully.", affected));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(404).body(ApiResponse.error(404, e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(400, e.getMessage()));
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package tech.cspioneer.backend.controller.root;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import tech.cspioneer.backend.entity.dto.response.UniqueViewersResponse;
+import tech.cspioneer.backend.entity.enums.ViewerItemType;
+import tech.cspioneer.backend.model.response.ApiResponse;
+import tech.cspioneer.backend.service.ViewerAnalyticsService;
+
+@RestController
+@RequestMapping("/api/root/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+public class RootViewerAnalyticsController {
+
+    private final ViewerAnalyticsService viewerAnalyticsService;
+
+    @GetMapping("/news/{uuid}/unique-viewers")
+    public ResponseEntity<ApiResponse<UniqueViewersResponse>> getNewsUniqueViewers(
+            @PathVariable String uuid,
+            @RequestParam(defaultValue = "30") int days) {
+        UniqueViewersResponse response = viewerAnalyticsService.getUniqueViewers(ViewerItemType.NEWS, uuid, days);
+        return ResponseEntity.ok(ApiResponse.success(200, "Unique viewers retrieved successfully", response));
+    }
+
+    @GetMapping("/lessons/{uuid}/unique-viewers")
+    public ResponseEntity<ApiResponse<UniqueViewersResponse>> getLessonUniqueViewers(
+            @PathVariable String uuid,
+            @RequestParam(defaultValue = "30") int days) {
+        UniqueViewersResponse response = viewerAnalyticsService.getUniqueViewers(ViewerItemType.LESSON, uuid, days);
+        return ResponseEntity.ok(ApiResponse.success(200, "Unique viewers retrieved successfully", response));
+    }
+}
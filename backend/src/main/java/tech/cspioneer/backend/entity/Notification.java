@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
 import tech.cspioneer.backend.entity.enums.NotificationType;
 import tech.cspioneer.backend.entity.enums.RelatedObjectType;
 
@@ -31,5 +32,11 @@ public class Notification {
 
     private Long relatedObjectId;
 
+    private String relatedObjectUuid; // 创建时冗余的关联对象UUID，列表查询无需再关联业务表
+
+    private FanoutAudience audience; // null 表示定向通知，ALL/COMPANY 表示只存一行的广播通知
+
+    private Long audienceId;
+
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,37 @@
+package tech.cspioneer.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.entity.enums.FanoutJobStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutJob {
+
+    private Long id;
+
+    private Long notificationId;
+
+    private FanoutAudience audience;
+
+    private Long audienceId;
+
+    private Long lastRecipientId;
+
+    private Long processedCount;
+
+    private FanoutJobStatus status;
+
+    private Integer attempts;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
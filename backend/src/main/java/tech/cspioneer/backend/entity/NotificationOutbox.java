@@ -0,0 +1,50 @@
+package tech.cspioneer.backend.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import tech.cspioneer.backend.entity.enums.OutboxStatus;
+import tech.cspioneer.backend.entity.enums.OutboxTargetType;
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    private Long id;
+
+    private String notificationUuid;
+
+    private OutboxTargetType targetType;
+
+    private Long targetId;
+
+    private String title;
+
+    private String content;
+
+    private RelatedObjectType relatedObjectType;
+
+    private Long relatedObjectId;
+
+    private OutboxStatus status;
+
+    private Integer attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String lockedBy;
+
+    private LocalDateTime lockedUntil;
+
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,10 @@
+package tech.cspioneer.backend.entity.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class DeleteNotificationsRequest {
+    private List<String> notificationUuids;
+}
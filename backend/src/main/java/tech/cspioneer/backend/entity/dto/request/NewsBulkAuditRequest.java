@@ -0,0 +1,21 @@
+package tech.cspioneer.backend.entity.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class NewsBulkAuditRequest {
+    /**
+     * 待审核新闻UUID列表
+     */
+    private List<String> newsUuids;
+    /**
+     * 审核后的状态 (approved / rejected)，对列表中所有新闻生效
+     */
+    private String auditStatus;
+    /**
+     * 审核意见
+     */
+    private String comment;
+}
@@ -0,0 +1,41 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AudienceIndexMetricsResponse {
+    /**
+     * 索引是否已完成首次构建（未就绪时调用方回退到数据库查询）
+     */
+    private boolean ready;
+    /**
+     * 活跃用户数量
+     */
+    private long activeUsers;
+    /**
+     * 有活跃用户的公司数量
+     */
+    private long companies;
+    /**
+     * 已缓存的会议参会者列表数量
+     */
+    private long cachedMeetings;
+    /**
+     * 位图与有序ID数组占用的内存估算（字节）
+     */
+    private long bitmapBytes;
+    /**
+     * 本节点启动以来处理的增量更新数量
+     */
+    private long incrementalUpdates;
+    /**
+     * 最近一次全量构建的完成时间
+     */
+    private LocalDateTime lastRebuildAt;
+    /**
+     * 最近一次全量构建的耗时（毫秒）
+     */
+    private long lastRebuildMs;
+}
@@ -0,0 +1,23 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+@Data
+public class BackfillStatusResponse {
+    /**
+     * 本节点已扫描到的通知ID
+     */
+    private long lastNotificationId;
+    /**
+     * 本节点已回填的通知数量
+     */
+    private long rowsUpdated;
+    /**
+     * 本节点是否已扫描完所有通知
+     */
+    private boolean completed;
+    /**
+     * 仍缺少关联对象UUID的通知数量（关联对象已被物理删除的通知会一直保留在此）
+     */
+    private long remainingRows;
+}
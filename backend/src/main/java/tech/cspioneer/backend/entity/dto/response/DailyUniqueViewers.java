@@ -0,0 +1,21 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyUniqueViewers {
+    /**
+     * 日期
+     */
+    private LocalDate date;
+    /**
+     * 当日独立访客数（近似值）
+     */
+    private long uniqueViewers;
+}
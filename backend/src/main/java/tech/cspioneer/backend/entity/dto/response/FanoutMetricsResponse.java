@@ -0,0 +1,35 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+@Data
+public class FanoutMetricsResponse {
+    /**
+     * 本节点启动以来写入的接收人数量
+     */
+    private long recipientsWritten;
+    /**
+     * 本节点启动以来提交的批次数量
+     */
+    private long batchesWritten;
+    /**
+     * 本节点完成的分发任务数量
+     */
+    private long jobsCompleted;
+    /**
+     * 本节点失败的分发任务数量
+     */
+    private long jobsFailed;
+    /**
+     * 写入吞吐（接收人/秒，按实际写入耗时计算）
+     */
+    private double recipientsPerSecond;
+    /**
+     * 集群中运行中的分发任务数量
+     */
+    private long runningJobs;
+    /**
+     * 分发延迟：最早的运行中任务已等待的秒数
+     */
+    private long lagSeconds;
+}
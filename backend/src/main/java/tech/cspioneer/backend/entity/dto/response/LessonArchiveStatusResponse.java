@@ -0,0 +1,45 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class LessonArchiveStatusResponse {
+    /**
+     * 最小保留天数，归档早于此的课程版本会被移入归档表
+     */
+    private int minAgeDays;
+    /**
+     * 归档表中的课程版本总数
+     */
+    private long archivedVersionsTotal;
+    /**
+     * 归档表中的课程资源总数
+     */
+    private long archivedResourcesTotal;
+    /**
+     * 本节点启动以来移入归档表的课程版本数量
+     */
+    private long versionsArchived;
+    /**
+     * 本节点启动以来移入归档表的课程资源数量
+     */
+    private long resourcesArchived;
+    /**
+     * 本节点启动以来执行的归档批次数量
+     */
+    private long batchesRun;
+    /**
+     * 最近一次归档任务的开始时间
+     */
+    private LocalDateTime lastRunAt;
+    /**
+     * 最近一次归档任务移入的课程版本数量
+     */
+    private long lastRunArchived;
+    /**
+     * 最近一次归档任务的耗时（毫秒）
+     */
+    private long lastRunDurationMs;
+}
@@ -0,0 +1,41 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class LessonDeleteJobResponse {
+    /**
+     * 删除任务ID
+     */
+    private String jobId;
+    /**
+     * 任务状态 RUNNING / COMPLETED / FAILED
+     */
+    private String status;
+    /**
+     * 请求删除的课程UUID数量（去重后）
+     */
+    private int total;
+    /**
+     * 已处理的UUID数量
+     */
+    private int processed;
+    /**
+     * 已删除的课程数量（不存在或已删除的UUID不计入）
+     */
+    private int deleted;
+    /**
+     * 任务开始时间
+     */
+    private LocalDateTime startedAt;
+    /**
+     * 任务结束时间
+     */
+    private LocalDateTime finishedAt;
+    /**
+     * 失败原因，已提交的分片不会回滚
+     */
+    private String error;
+}
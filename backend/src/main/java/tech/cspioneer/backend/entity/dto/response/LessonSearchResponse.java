@@ -6,5 +6,9 @@ import java.util.List;
 @Data
 public class LessonSearchResponse {
     private Integer total;
+    /**
+     * total 是否为精确值，模糊筛选时可能来自短期缓存或达到计数上限
+     */
+    private Boolean totalExact;
     private List<LessonListItemResponse> list;
 } 
\ No newline at end of file
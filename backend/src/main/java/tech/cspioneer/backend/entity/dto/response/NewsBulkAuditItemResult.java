@@ -0,0 +1,23 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsBulkAuditItemResult {
+    /**
+     * 新闻UUID
+     */
+    private String uuid;
+    /**
+     * 是否审核成功
+     */
+    private boolean success;
+    /**
+     * 失败原因，成功时为 null
+     */
+    private String message;
+}
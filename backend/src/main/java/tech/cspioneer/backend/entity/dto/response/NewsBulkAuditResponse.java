@@ -0,0 +1,25 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class NewsBulkAuditResponse {
+    /**
+     * 去重后的请求数量
+     */
+    private int total;
+    /**
+     * 审核成功数量
+     */
+    private int succeeded;
+    /**
+     * 跳过数量（不存在或不在待审核状态）
+     */
+    private int failed;
+    /**
+     * 逐条结果，顺序与请求一致
+     */
+    private List<NewsBulkAuditItemResult> results;
+}
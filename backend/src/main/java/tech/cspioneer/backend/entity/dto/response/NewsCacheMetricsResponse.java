@@ -0,0 +1,31 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+@Data
+public class NewsCacheMetricsResponse {
+    /**
+     * 本地缓存命中次数
+     */
+    private long localHits;
+    /**
+     * Redis 缓存命中次数
+     */
+    private long redisHits;
+    /**
+     * 两级缓存均未命中、回源数据库的次数
+     */
+    private long misses;
+    /**
+     * 总命中率 (本地 + Redis)
+     */
+    private double hitRatio;
+    /**
+     * 本地缓存的新闻指针数量
+     */
+    private int localNewsEntries;
+    /**
+     * 本地缓存的新闻内容数量
+     */
+    private int localContentEntries;
+}
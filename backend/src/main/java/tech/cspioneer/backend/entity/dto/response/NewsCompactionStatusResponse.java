@@ -0,0 +1,37 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NewsCompactionStatusResponse {
+    /**
+     * 最小保留天数，早于此的已归档/被拒绝版本会被移入归档表
+     */
+    private int minAgeDays;
+    /**
+     * 归档表中的内容版本总数
+     */
+    private long archivedTotal;
+    /**
+     * 本节点启动以来归档的内容版本数量
+     */
+    private long rowsArchived;
+    /**
+     * 本节点启动以来执行的归档批次数量
+     */
+    private long batchesRun;
+    /**
+     * 最近一次归档任务的开始时间
+     */
+    private LocalDateTime lastRunAt;
+    /**
+     * 最近一次归档任务归档的行数
+     */
+    private long lastRunArchived;
+    /**
+     * 最近一次归档任务的耗时（毫秒）
+     */
+    private long lastRunDurationMs;
+}
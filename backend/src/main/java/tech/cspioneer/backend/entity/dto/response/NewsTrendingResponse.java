@@ -0,0 +1,25 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NewsTrendingResponse {
+    /**
+     * 新闻ID，仅用于按排行顺序排列
+     */
+    @JsonIgnore
+    private Long newsId;
+    private String uuid;
+    private long companyId;
+    private String title;
+    private String summary;
+    private String coverImageUrl;
+    private LocalDateTime createdAt;
+    /**
+     * 已落库的累计浏览次数（最多滞后一个刷新周期）
+     */
+    private long viewCount;
+}
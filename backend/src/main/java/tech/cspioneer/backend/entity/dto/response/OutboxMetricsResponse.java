@@ -0,0 +1,35 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+@Data
+public class OutboxMetricsResponse {
+    /**
+     * 待分发事件数（队列深度）
+     */
+    private long pendingEvents;
+    /**
+     * 最早的待分发事件已等待的秒数
+     */
+    private long oldestPendingAgeSeconds;
+    /**
+     * 本节点启动以来分发成功的事件数
+     */
+    private long dispatchedEvents;
+    /**
+     * 本节点启动以来安排重试的次数
+     */
+    private long retriedEvents;
+    /**
+     * 本节点启动以来最终失败的事件数
+     */
+    private long failedEvents;
+    /**
+     * 平均分发延迟（从写入 outbox 到分发完成，毫秒）
+     */
+    private long averageDispatchLatencyMs;
+    /**
+     * 最大分发延迟（毫秒）
+     */
+    private long maxDispatchLatencyMs;
+}
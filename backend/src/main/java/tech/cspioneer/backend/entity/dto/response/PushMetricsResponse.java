@@ -0,0 +1,23 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+@Data
+public class PushMetricsResponse {
+    /**
+     * 本节点当前的 SSE 连接数
+     */
+    private long connectedClients;
+    /**
+     * 本节点当前有连接的用户数
+     */
+    private long connectedUsers;
+    /**
+     * 本节点启动以来成功推送的事件数
+     */
+    private long deliveredEvents;
+    /**
+     * 本节点启动以来因连接缓冲区已满而丢弃的事件数
+     */
+    private long droppedEvents;
+}
@@ -0,0 +1,37 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RetentionStatusResponse {
+    /**
+     * 当前的保留天数，早于此的定向通知接收人行会被归档
+     */
+    private int retentionDays;
+    /**
+     * 本节点启动以来归档的接收人行数量
+     */
+    private long rowsArchived;
+    /**
+     * 本节点启动以来执行的归档批次数量
+     */
+    private long batchesRun;
+    /**
+     * 最近一次归档任务的开始时间
+     */
+    private LocalDateTime lastRunAt;
+    /**
+     * 最近一次归档任务归档的行数
+     */
+    private long lastRunArchived;
+    /**
+     * 最近一次归档任务的耗时（毫秒）
+     */
+    private long lastRunDurationMs;
+    /**
+     * 归档表是否按月分区
+     */
+    private boolean partitioned;
+}
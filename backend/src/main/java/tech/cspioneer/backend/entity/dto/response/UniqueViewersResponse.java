@@ -0,0 +1,29 @@
+package tech.cspioneer.backend.entity.dto.response;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UniqueViewersResponse {
+    /**
+     * 对象类型 (NEWS / LESSON)
+     */
+    private String itemType;
+    /**
+     * 对象UUID
+     */
+    private String itemUuid;
+    /**
+     * 统计的天数（含今天）
+     */
+    private int days;
+    /**
+     * 统计区间内的独立访客数（各日 HyperLogLog 合并后的近似值，标准误差约 0.81%）
+     */
+    private long uniqueViewers;
+    /**
+     * 每日独立访客数，按日期升序
+     */
+    private List<DailyUniqueViewers> daily;
+}
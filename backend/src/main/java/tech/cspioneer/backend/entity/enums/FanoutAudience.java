@@ -0,0 +1,6 @@
+package tech.cspioneer.backend.entity.enums;
+
+public enum FanoutAudience {
+    ALL,
+    COMPANY
+}
@@ -0,0 +1,7 @@
+package tech.cspioneer.backend.entity.enums;
+
+public enum FanoutJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package tech.cspioneer.backend.entity.enums;
+
+public enum OutboxTargetType {
+    COMPANY,
+    ALL,
+    MEETING
+}
@@ -0,0 +1,6 @@
+package tech.cspioneer.backend.entity.enums;
+
+public enum ViewerItemType {
+    NEWS,
+    LESSON
+}
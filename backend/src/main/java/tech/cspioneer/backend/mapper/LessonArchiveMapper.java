@@ -0,0 +1,89 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface LessonArchiveMapper {
+
+    /**
+     * 查询一批可移入归档表的课程版本：状态为已归档、归档时间早于截止时间，且不再被课程的 current/pending 指针引用。
+     * 新增 archived_at 列之前归档的版本按创建时间判断
+     * @param cutoff 截止时间
+     * @param limit 批次大小
+     * @return 版本ID列表
+     */
+    @Select("SELECT v.id FROM lesson_version v " +
+            "JOIN lesson l ON l.id = v.lesson_id " +
+            "WHERE v.status = 'archived' AND COALESCE(v.archived_at, v.created_at) < #{cutoff} " +
+            "AND v.id <> COALESCE(l.current_version_id, 0) AND v.id <> COALESCE(l.pending_version_id, 0) " +
+            "ORDER BY v.id LIMIT #{limit}")
+    List<Long> findArchivableVersionIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") Integer limit);
+
+    /**
+     * 将课程版本复制到归档表，已归档的行会被忽略（重放安全）
+     * @param ids 版本ID列表
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO lesson_version_archive(id, uuid, lesson_id, version, name, description, image_url, " +
+            "author_name, sort_order, status, creator_id, is_deleted, created_at, archived_at) " +
+            "SELECT id, uuid, lesson_id, version, name, description, image_url, " +
+            "author_name, sort_order, status, creator_id, is_deleted, created_at, COALESCE(archived_at, created_at) " +
+            "FROM lesson_version WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int copyVersionsToArchive(@Param("ids") List<Long> ids);
+
+    /**
+     * 将这些版本的全部资源复制到归档表，已归档的行会被忽略（重放安全）
+     * @param versionIds 版本ID列表
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO lesson_resources_archive(id, uuid, lesson_version_id, name, resources_url, resources_type, " +
+            "sort_order, status, is_deleted, created_at, updated_at) " +
+            "SELECT id, uuid, lesson_version_id, name, resources_url, resources_type, " +
+            "sort_order, status, is_deleted, created_at, updated_at FROM lesson_resources WHERE lesson_version_id IN " +
+            "<foreach collection='versionIds' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int copyResourcesToArchive(@Param("versionIds") List<Long> versionIds);
+
+    /**
+     * 从热表中删除已归档版本的资源
+     * @param versionIds 版本ID列表
+     * @return 受影响的行数
+     */
+    @Delete("<script>" +
+            "DELETE FROM lesson_resources WHERE lesson_version_id IN " +
+            "<foreach collection='versionIds' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int deleteResources(@Param("versionIds") List<Long> versionIds);
+
+    /**
+     * 从热表中删除已归档的版本
+     * @param ids 版本ID列表
+     * @return 受影响的行数
+     */
+    @Delete("<script>" +
+            "DELETE FROM lesson_version WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int deleteVersions(@Param("ids") List<Long> ids);
+
+    /**
+     * 统计归档表中的课程版本数量
+     * @return 行数
+     */
+    @Select("SELECT COUNT(*) FROM lesson_version_archive")
+    long countArchivedVersions();
+
+    /**
+     * 统计归档表中的课程资源数量
+     * @return 行数
+     */
+    @Select("SELECT COUNT(*) FROM lesson_resources_archive")
+    long countArchivedResources();
+}
@@ -79,6 +79,60 @@ public interface LessonMapper {
                                                             @Param("pageSize") int pageSize,
                                                             @Param("offset") int offset);
 
+    /**
+     * 统计 selectLessonWithCurrentVersion 的总行数。没有名称/作者筛选时不关联版本表；
+     * limit 不为空时最多数到 limit 行，用于限制模糊筛选的计数成本
+     */
+    @Select({
+        "<script>",
+        "SELECT COUNT(*) FROM (",
+        "  SELECT 1 FROM lesson l",
+        "  <if test='(name != null and name != \"\") or (authorName != null and authorName != \"\")'>",
+        "    LEFT JOIN lesson_version v ON l.current_version_id = v.id",
+        "  </if>",
+        "  <where>",
+        "    l.is_deleted = 0",
+        "    AND l.current_version_id IS NOT NULL",
+        "    <if test='name != null and name != \"\"'>AND v.name LIKE CONCAT('%', #{name}, '%')</if>",
+        "    <if test='authorName != null and authorName != \"\"'>AND v.author_name LIKE CONCAT('%', #{authorName}, '%')</if>",
+        "    <if test='beginTime != null'>AND l.created_at &gt;= #{beginTime}</if>",
+        "    <if test='endTime != null'>AND l.created_at &lt;= #{endTime}</if>",
+        "  </where>",
+        "  <if test='limit != null'>LIMIT #{limit}</if>",
+        ") t",
+        "</script>"
+    })
+    long countLessonsWithCurrentVersion(@Param("name") String name,
+                                        @Param("authorName") String authorName,
+                                        @Param("beginTime") String beginTime,
+                                        @Param("endTime") String endTime,
+                                        @Param("limit") Integer limit);
+
+    /**
+     * 统计 searchLessonWithCurrentVersion 的总行数，limit 含义同上
+     */
+    @Select({
+        "<script>",
+        "SELECT COUNT(*) FROM (",
+        "  SELECT 1 FROM lesson l",
+        "  <if test='keyword != null and keyword != \"\"'>",
+        "    LEFT JOIN lesson_version v ON l.current_version_id = v.id",
+        "  </if>",
+        "  <where>",
+        "    l.is_deleted = 0",
+        "    AND l.current_version_id IS NOT NULL",
+        "    <if test='keyword != null and keyword != \"\"'>",
+        "      AND (v.name LIKE CONCAT('%', #{keyword}, '%')",
+        "           OR v.author_name LIKE CONCAT('%', #{keyword}, '%')",
+        "           OR v.description LIKE CONCAT('%', #{keyword}, '%'))",
+        "    </if>",
+        "  </where>",
+        "  <if test='limit != null'>LIMIT #{limit}</if>",
+        ") t",
+        "</script>"
+    })
+    long countSearchLessons(@Param("keyword") String keyword, @Param("limit") Integer limit);
+
     @Update({
         "<script>",
         "UPDATE lesson SET is_deleted=1 WHERE id IN",
@@ -89,6 +143,32 @@ public interface LessonMapper {
     })
     int softDeleteLessons(@Param("ids") List<Long> ids);
 
+    // 一次解析一批UUID，只返回未删除的课程
+    @Select({
+        "<script>",
+        "SELECT * FROM lesson WHERE is_deleted = 0 AND uuid IN",
+        "<foreach collection='uuids' item='uuid' open='(' separator=',' close=')'>",
+        "  #{uuid}",
+        "</foreach>",
+        "</script>"
+    })
+    List<Lesson> selectByUuids(@Param("uuids") List<String> uuids);
+
+    // 联表 UPDATE，一条语句软删除课程及其所有版本与资源
+    @Update({
+        "<script>",
+        "UPDATE lesson l",
+        "LEFT JOIN lesson_version v ON v.lesson_id = l.id",
+        "LEFT JOIN lesson_resources r ON r.lesson_version_id = v.id",
+        "SET l.is_deleted = 1, v.is_deleted = 1, r.is_deleted = 1",
+        "WHERE l.id IN",
+        "<foreach collection='ids' item='id' open='(' separator=',' close=')'>",
+        "  #{id}",
+        "</foreach>",
+        "</script>"
+    })
+    int softDeleteLessonsCascade(@Param("ids") List<Long> ids);
+
     @Select({
         "<script>",
         "SELECT",
@@ -99,7 +179,7 @@ public interface LessonMapper {
         "  v.created_at AS created_at,",
         "  l.status AS status",
         "FROM lesson l",
-        "JOIN lesson_version v ON v.id = (CASE WHEN l.status = 'pending_review' THEN l.pending_version_id ELSE l.current_version_id END)",
+        "JOIN lesson_version v ON v.id = l.display_version_id",
         "JOIN company c ON l.publisher_id = c.id",
         "<where>",
         "  l.is_deleted = 0",
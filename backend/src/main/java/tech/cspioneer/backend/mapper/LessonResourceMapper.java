@@ -12,12 +12,40 @@ public interface LessonResourceMapper {
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insert(LessonResources lessonResources);
 
+    // 多行插入，一条语句写入同一版本的全部资源，自增ID按顺序回填到每个元素
+    @Insert({
+        "<script>",
+        "INSERT INTO lesson_resources(uuid, lesson_version_id, name, resources_url, resources_type, sort_order, status, is_deleted, created_at, updated_at) VALUES",
+        "<foreach collection='list' item='r' separator=','>",
+        "  (#{r.uuid}, #{r.lessonVersionId}, #{r.name}, #{r.resourcesUrl}, #{r.resourcesType}, #{r.sortOrder}, #{r.status}, #{r.isDeleted}, #{r.createdAt}, #{r.updatedAt})",
+        "</foreach>",
+        "</script>"
+    })
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insertBatch(List<LessonResources> resources);
+
     @Update("UPDATE lesson_resources SET lesson_version_id=#{lessonVersionId}, name=#{name}, resources_url=#{resourcesUrl}, resources_type=#{resourcesType}, sort_order=#{sortOrder}, status=#{status}, is_deleted=#{isDeleted}, updated_at=#{updatedAt} WHERE id=#{id}")
     int update(LessonResources lessonResources);
 
     @Select("SELECT * FROM lesson_resources WHERE lesson_version_id=#{lessonVersionId} AND is_deleted = 0")
     List<LessonResources> selectByLessonVersionId(@Param("lessonVersionId") Long lessonVersionId);
 
+    // 按 sort_order 有序读取，走 idx_lr_version_sort (lesson_version_id, is_deleted, sort_order)，无需排序
+    @Select("SELECT * FROM lesson_resources WHERE lesson_version_id=#{lessonVersionId} AND is_deleted = 0 ORDER BY sort_order, id")
+    List<LessonResources> selectOrderedByLessonVersionId(@Param("lessonVersionId") Long lessonVersionId);
+
+    @Select("SELECT * FROM lesson_resources WHERE lesson_version_id=#{lessonVersionId} AND is_deleted = 0 " +
+            "ORDER BY sort_order, id LIMIT #{limit} OFFSET #{offset}")
+    List<LessonResources> selectPageByLessonVersionId(@Param("lessonVersionId") Long lessonVersionId,
+                                                      @Param("limit") int limit,
+                                                      @Param("offset") int offset);
+
+    @Select("SELECT COUNT(*) FROM lesson_resources WHERE lesson_version_id=#{lessonVersionId} AND is_deleted = 0")
+    int countByLessonVersionId(@Param("lessonVersionId") Long lessonVersionId);
+
+    @Update("UPDATE lesson_resources SET status=#{status} WHERE lesson_version_id=#{lessonVersionId} AND is_deleted = 0")
+    int updateStatusByLessonVersionId(@Param("lessonVersionId") Long lessonVersionId, @Param("status") String status);
+
     @Update({
         "<script>",
         "UPDATE lesson_resources SET is_deleted=1 WHERE lesson_version_id IN",
@@ -15,6 +15,10 @@ public interface LessonVersionMapper {
     @Update("UPDATE lesson_version SET lesson_id=#{lessonId}, version=#{version}, name=#{name}, description=#{description}, image_url=#{imageUrl}, author_name=#{authorName}, sort_order=#{sortOrder}, status=#{status}, creator_id=#{creatorId}, is_deleted=#{isDeleted} WHERE id=#{id}")
     int update(LessonVersion lessonVersion);
 
+    // 归档被替代的版本并记录归档时间，已归档的版本不重复更新
+    @Update("UPDATE lesson_version SET status='archived', archived_at=NOW() WHERE id=#{id} AND status <> 'archived'")
+    int archiveById(@Param("id") Long id);
+
     @Select("SELECT * FROM lesson_version WHERE id=#{id} AND is_deleted = 0")
     LessonVersion selectById(@Param("id") Long id);
 
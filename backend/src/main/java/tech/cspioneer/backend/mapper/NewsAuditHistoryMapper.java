@@ -18,6 +18,21 @@ public interface NewsAuditHistoryMapper {
     @Options(useGeneratedKeys = true, keyProperty = "id", keyColumn = "id")
     int insert(NewsAuditHistory history);
 
+    /**
+     * 批量插入审核记录（单条多行 INSERT）
+     * @param histories 审核历史列表，不能为空
+     * @return 插入的行数
+     */
+    @Insert({
+            "<script>",
+            "INSERT INTO news_audit_history(news_content_id, auditor_id, audit_status, comments) VALUES",
+            "<foreach collection='histories' item='h' separator=','>",
+            "(#{h.newsContentId}, #{h.auditorId}, #{h.auditStatus}, #{h.comments})",
+            "</foreach>",
+            "</script>"
+    })
+    int insertBatch(@Param("histories") List<NewsAuditHistory> histories);
+
     /**
      * 根据主键ID查询审核记录
      * @param id 主键ID
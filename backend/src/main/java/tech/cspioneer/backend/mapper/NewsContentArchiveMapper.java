@@ -0,0 +1,56 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NewsContentArchiveMapper {
+
+    /**
+     * 查询一批可归档的内容版本：早于截止时间且不再被新闻的 current/pending 指针引用（与版本状态无关，
+     * 被替代但仍为 published 的旧版本同样归档）
+     * @param cutoff 截止时间
+     * @param limit 批次大小
+     * @return 内容版本ID列表
+     */
+    @Select("SELECT nc.id FROM news_content nc " +
+            "JOIN news n ON n.id = nc.news_id " +
+            "WHERE nc.created_at < #{cutoff} " +
+            "AND nc.id <> COALESCE(n.current_content_id, 0) AND nc.id <> COALESCE(n.pending_content_id, 0) " +
+            "ORDER BY nc.id LIMIT #{limit}")
+    List<Long> findArchivableContentIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") Integer limit);
+
+    /**
+     * 将内容版本复制到归档表，已归档的行会被忽略（重放安全）
+     * @param ids 内容版本ID列表
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO news_content_archive(id, uuid, news_id, title, summary, cover_image_url, resource_url, " +
+            "version, status, publisher_id, is_deleted, created_at) " +
+            "SELECT id, uuid, news_id, title, summary, cover_image_url, resource_url, " +
+            "version, status, publisher_id, is_deleted, created_at FROM news_content WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    /**
+     * 从热表中删除已归档的内容版本
+     * @param ids 内容版本ID列表
+     * @return 受影响的行数
+     */
+    @Delete("<script>" +
+            "DELETE FROM news_content WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int deleteContents(@Param("ids") List<Long> ids);
+
+    /**
+     * 统计归档表中的内容版本数量
+     * @return 行数
+     */
+    @Select("SELECT COUNT(*) FROM news_content_archive")
+    long countArchived();
+}
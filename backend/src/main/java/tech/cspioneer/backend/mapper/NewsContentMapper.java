@@ -66,6 +66,17 @@ public interface NewsContentMapper {
     @ResultMap("newsContentResultMap")
     NewsContent findByUuid(@Param("uuid") String uuid);
 
+    // 根据ID批量查询，用于列表页一次性加载当前页所有内容，避免逐条查询
+    @Select({
+            "<script>",
+            "SELECT * FROM news_content",
+            "WHERE is_deleted = 0 AND id IN",
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+            "</script>"
+    })
+    @ResultMap("newsContentResultMap")
+    List<NewsContent> findByIds(@Param("ids") List<Long> ids);
+
     // 根据新闻ID查询所有版本
     @Select({
             "SELECT * FROM news_content",
@@ -112,7 +123,21 @@ public interface NewsContentMapper {
             @Param("id") Long id,
             @Param("status") String status);
 
-    // 获取指定新闻的最大版本号
-    @Select("SELECT COALESCE(MAX(version), 0) FROM news_content WHERE news_id = #{newsId}")
+    // 批量更新版本状态
+    @Update({
+            "<script>",
+            "UPDATE news_content SET status = #{status}",
+            "WHERE id IN",
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+            "</script>"
+    })
+    int updateStatusByIds(@Param("ids") List<Long> ids, @Param("status") String status);
+
+    // 获取指定新闻的最大版本号（含已归档的历史版本，避免版本号被复用）
+    @Select({
+            "SELECT GREATEST(",
+            "COALESCE((SELECT MAX(version) FROM news_content WHERE news_id = #{newsId}), 0),",
+            "COALESCE((SELECT MAX(version) FROM news_content_archive WHERE news_id = #{newsId}), 0))"
+    })
     int getMaxVersionByNewsId(@Param("newsId") Long newsId);
 }
\ No newline at end of file
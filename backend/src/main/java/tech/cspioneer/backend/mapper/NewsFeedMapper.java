@@ -0,0 +1,61 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+import tech.cspioneer.backend.entity.dto.response.NewsListResponse;
+import tech.cspioneer.backend.entity.query.NewsListQuery;
+
+import java.util.List;
+
+@Mapper
+public interface NewsFeedMapper {
+
+    /**
+     * 删除新闻的展示行
+     * @param newsIds 新闻ID列表
+     * @return 受影响的行数
+     */
+    @Delete("<script>" +
+            "DELETE FROM news_feed WHERE news_id IN " +
+            "<foreach collection='newsIds' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int deleteByNewsIds(@Param("newsIds") List<Long> newsIds);
+
+    /**
+     * 按新闻当前的展示版本重新生成展示行，已删除或没有展示版本的新闻不会生成
+     * @param newsIds 新闻ID列表
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT INTO news_feed(news_id, news_uuid, company_id, visible, status, title, summary, " +
+            "cover_image_url, publisher_id, content_created_at, created_at) " +
+            "SELECT n.id, n.uuid, n.company_id, COALESCE(n.visible, 1), n.status, nc.title, nc.summary, " +
+            "nc.cover_image_url, nc.publisher_id, nc.created_at, n.created_at " +
+            "FROM news n JOIN news_content nc ON nc.id = n.display_content_id " +
+            "WHERE n.is_deleted = 0 AND nc.is_deleted = 0 AND n.id IN " +
+            "<foreach collection='newsIds' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int insertFromNews(@Param("newsIds") List<Long> newsIds);
+
+    /**
+     * 重建时按ID顺序分批读取新闻ID（包含已删除的新闻，以便清除残留的展示行）
+     * @param afterId 上一批的最大ID
+     * @param limit 批次大小
+     * @return 新闻ID列表
+     */
+    @Select("SELECT id FROM news WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+    List<Long> findNewsIdsAfter(@Param("afterId") Long afterId, @Param("limit") Integer limit);
+
+    /**
+     * 分页查询公开新闻与本公司新闻
+     * @param companyId 本公司ID，为空时只查询公开新闻
+     * @param query 过滤条件
+     * @param offset 偏移量
+     * @param window 每个分支最多读取的行数 (offset + pageSize)
+     * @return 新闻列表
+     */
+    @SelectProvider(type = NewsFeedSqlProvider.class, method = "findFeed")
+    List<NewsListResponse> findFeed(@Param("companyId") Long companyId,
+                                    @Param("query") NewsListQuery query,
+                                    @Param("offset") int offset,
+                                    @Param("window") int window);
+}
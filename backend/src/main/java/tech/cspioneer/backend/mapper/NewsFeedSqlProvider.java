@@ -0,0 +1,39 @@
+package tech.cspioneer.backend.mapper;
+
+import java.util.Map;
+
+/**
+ * 用户/企业新闻列表查询。
+ * 可见范围是 "公开新闻 ∪ 本公司新闻"，拆成两个分支分别走 (visible, created_at) 与 (company_id, created_at) 索引，
+ * 每个分支最多取 offset + pageSize 行，合并去重后再分页，扫描量只与页码有关，与新闻总量无关。
+ */
+public class NewsFeedSqlProvider {
+
+    private static final String COLUMNS =
+            "f.news_id, f.news_uuid AS uuid, f.company_id AS companyId, f.content_created_at AS contentCreatedAt, " +
+            "f.cover_image_url AS coverImageUrl, f.created_at AS createdAt, f.publisher_id AS publisherId, " +
+            "f.summary, f.title, f.status ";
+
+    private static final String FILTERS =
+            "<if test='query.title != null and query.title != \"\"'>AND f.title LIKE CONCAT('%', #{query.title}, '%') </if>" +
+            "<if test='query.summary != null and query.summary != \"\"'>AND f.summary LIKE CONCAT('%', #{query.summary}, '%') </if>" +
+            "<if test='query.startTime != null and query.startTime != \"\"'>AND f.created_at <![CDATA[ >= ]]> #{query.startTime} </if>" +
+            "<if test='query.endTime != null and query.endTime != \"\"'>AND f.created_at <![CDATA[ <= ]]> #{query.endTime} </if>";
+
+    private static final String BRANCH_ORDER = "ORDER BY f.created_at DESC, f.news_id DESC LIMIT #{window}) ";
+
+    public String findFeed(Map<String, Object> params) {
+        return "<script>" +
+                "SELECT feed.uuid, feed.companyId, feed.contentCreatedAt, feed.coverImageUrl, feed.createdAt, " +
+                "feed.publisherId, feed.summary, feed.title, feed.status FROM (" +
+                "(SELECT " + COLUMNS + "FROM news_feed f WHERE f.visible = 1 " + FILTERS + BRANCH_ORDER +
+                "<if test='companyId != null'>" +
+                "UNION " +
+                "(SELECT " + COLUMNS + "FROM news_feed f WHERE f.company_id = #{companyId} " + FILTERS + BRANCH_ORDER +
+                "</if>" +
+                ") feed " +
+                "ORDER BY feed.createdAt DESC, feed.news_id DESC " +
+                "LIMIT #{query.pageSize} OFFSET #{offset}" +
+                "</script>";
+    }
+}
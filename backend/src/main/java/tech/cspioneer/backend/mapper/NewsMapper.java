@@ -120,6 +120,42 @@ public interface NewsMapper {
             @Param("currentContentId") Long currentContentId,
             @Param("pendingContentId") Long pendingContentId);
 
+    // 批量审核：按UUID加行锁读取新闻，事务内其他审核请求需等待
+    @Select({
+            "<script>",
+            "SELECT * FROM news",
+            "WHERE is_deleted = 0 AND uuid IN",
+            "<foreach collection='uuids' item='uuid' open='(' separator=',' close=')'>#{uuid}</foreach>",
+            "FOR UPDATE",
+            "</script>"
+    })
+    @ResultMap("newsResultMap")
+    List<News> findByUuidsForUpdate(@Param("uuids") List<String> uuids);
+
+    // 批量通过：待审核版本成为当前版本 (单表 UPDATE 按顺序赋值, current 取到的是原 pending)
+    @Update({
+            "<script>",
+            "UPDATE news SET status = 'published', current_content_id = pending_content_id,",
+            "pending_content_id = NULL, updated_at = NOW()",
+            "WHERE id IN",
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+            "</script>"
+    })
+    int approvePendingByIds(@Param("ids") List<Long> ids);
+
+    // 批量拒绝：有已发布版本的回到已发布，否则整条新闻归档
+    @Update({
+            "<script>",
+            "UPDATE news SET",
+            "status = CASE WHEN current_content_id IS NULL THEN 'archived' ELSE 'published' END,",
+            "pending_content_id = CASE WHEN current_content_id IS NULL THEN pending_content_id ELSE NULL END,",
+            "updated_at = NOW()",
+            "WHERE id IN",
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>",
+            "</script>"
+    })
+    int rejectPendingByIds(@Param("ids") List<Long> ids);
+
     // 分页查询(支持查询所有新闻或按公司ID过滤)
     @Select({
             "<script>",
@@ -153,7 +189,7 @@ public interface NewsMapper {
             "nc.cover_image_url as coverImageUrl, n.created_at as createdAt, ",
             "nc.publisher_id as publisherId, nc.summary, nc.title, n.status ",
             "FROM news n ",
-            "JOIN news_content nc ON (CASE WHEN n.status = 'pending' THEN n.pending_content_id ELSE n.current_content_id END) = nc.id ",
+            "JOIN news_content nc ON nc.id = n.display_content_id ",
             "WHERE n.is_deleted = 0 AND nc.is_deleted = 0 ",
             "<if test='query.companyUuid != null'>",
             "   AND (n.visible = 1 OR n.company_id = (SELECT id FROM company WHERE uuid = #{query.companyUuid})) ",
@@ -183,7 +219,7 @@ public interface NewsMapper {
         "nc.cover_image_url as coverImageUrl, n.created_at as createdAt, ",
         "nc.publisher_id as publisherId, nc.summary, nc.title, nc.version, n.status ",
         "FROM news n ",
-        "JOIN news_content nc ON (CASE WHEN n.status = 'pending' THEN n.pending_content_id ELSE n.current_content_id END) = nc.id ",
+        "JOIN news_content nc ON nc.id = n.display_content_id ",
         "JOIN company c ON n.company_id = c.id ",
         "JOIN user u ON nc.publisher_id = u.id ",
         "WHERE n.is_deleted = 0 AND nc.is_deleted = 0 ",
@@ -238,4 +274,30 @@ public interface NewsMapper {
         "ORDER BY nh.id DESC"
     })
     List<NewsHistoryResponse> findNewsHistory(@Param("uuid") String uuid);
+
+    // 查询新闻历史记录，包含已移入归档表的历史版本
+    @Select({
+        "SELECT * FROM (",
+        "SELECT nh.id AS history_id, nh.uuid, nh.audit_status as auditStatus, nh.auditor_uuid as auditorUUid, ",
+        "nh.comments, n.company_id as companyId, nc.created_at as contentCreatedAt, ",
+        "nc.cover_image_url as coverImageUrl, nh.created_at as createdAt, ",
+        "nc.uuid as newsContentUUid, nc.publisher_id as publisherId, ",
+        "nc.summary, nc.title, nc.version ",
+        "FROM news n ",
+        "JOIN news_content nc ON n.id = nc.news_id ",
+        "JOIN news_audit_history nh ON nc.id = nh.news_content_id ",
+        "WHERE n.uuid = #{uuid} ",
+        "UNION ALL ",
+        "SELECT nh.id AS history_id, nh.uuid, nh.audit_status, nh.auditor_uuid, ",
+        "nh.comments, n.company_id, nca.created_at, ",
+        "nca.cover_image_url, nh.created_at, ",
+        "nca.uuid, nca.publisher_id, ",
+        "nca.summary, nca.title, nca.version ",
+        "FROM news n ",
+        "JOIN news_content_archive nca ON n.id = nca.news_id ",
+        "JOIN news_audit_history nh ON nca.id = nh.news_content_id ",
+        "WHERE n.uuid = #{uuid} ",
+        ") h ORDER BY h.history_id DESC"
+    })
+    List<NewsHistoryResponse> findNewsHistoryIncludingArchived(@Param("uuid") String uuid);
 }
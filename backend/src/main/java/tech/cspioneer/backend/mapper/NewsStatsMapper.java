@@ -0,0 +1,49 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+import tech.cspioneer.backend.entity.dto.response.NewsTrendingResponse;
+
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface NewsStatsMapper {
+
+    /**
+     * 批量累加浏览次数（单条多行 INSERT ... ON DUPLICATE KEY UPDATE）
+     * @param counts 新闻ID -> 本周期新增浏览次数，不能为空
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT INTO news_stats(news_id, view_count) VALUES " +
+            "<foreach collection='counts' index='newsId' item='count' separator=','>(#{newsId}, #{count})</foreach> " +
+            "ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)" +
+            "</script>")
+    int addViewCounts(@Param("counts") Map<Long, Long> counts);
+
+    /**
+     * 按ID查询可展示的热门新闻（公开且已发布）
+     * @param newsIds 新闻ID列表
+     * @return 新闻列表，顺序不保证
+     */
+    @Select("<script>" +
+            "SELECT f.news_id AS newsId, f.news_uuid AS uuid, f.company_id AS companyId, f.title, f.summary, " +
+            "f.cover_image_url AS coverImageUrl, f.created_at AS createdAt, COALESCE(s.view_count, 0) AS viewCount " +
+            "FROM news_feed f LEFT JOIN news_stats s ON s.news_id = f.news_id " +
+            "WHERE f.visible = 1 AND f.status = 'published' AND f.news_id IN " +
+            "<foreach collection='newsIds' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    List<NewsTrendingResponse> findTrendingByNewsIds(@Param("newsIds") List<Long> newsIds);
+
+    /**
+     * Redis 不可用时的降级排行：按累计浏览次数倒序
+     * @param limit 数量
+     * @return 新闻列表
+     */
+    @Select("SELECT f.news_id AS newsId, f.news_uuid AS uuid, f.company_id AS companyId, f.title, f.summary, " +
+            "f.cover_image_url AS coverImageUrl, f.created_at AS createdAt, s.view_count AS viewCount " +
+            "FROM news_stats s JOIN news_feed f ON f.news_id = s.news_id " +
+            "WHERE f.visible = 1 AND f.status = 'published' " +
+            "ORDER BY s.view_count DESC LIMIT #{limit}")
+    List<NewsTrendingResponse> findTopViewed(@Param("limit") Integer limit);
+}
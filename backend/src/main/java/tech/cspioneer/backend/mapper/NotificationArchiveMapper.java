@@ -0,0 +1,72 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+import tech.cspioneer.backend.entity.NotificationRecipient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationArchiveMapper {
+
+    /**
+     * 查询一批早于截止时间的定向通知接收人行（广播通知的覆盖行很稀疏且决定了广播的已读/删除状态，不归档）
+     * @param cutoff 截止时间
+     * @param limit 批次大小
+     * @return 接收人行的ID与接收用户ID
+     */
+    @Select("SELECT nr.id, nr.recipient_id FROM notification_recipient nr " +
+            "JOIN notification n ON n.id = nr.notification_id " +
+            "WHERE nr.created_at < #{cutoff} AND n.audience IS NULL " +
+            "ORDER BY nr.created_at LIMIT #{limit}")
+    List<NotificationRecipient> findExpiredRecipients(@Param("cutoff") LocalDateTime cutoff, @Param("limit") Integer limit);
+
+    /**
+     * 将接收人行复制到归档表，已归档的行会被忽略（重放安全）
+     * @param ids 接收人行ID列表
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO notification_recipient_archive(id, notification_id, recipient_id, is_read, read_at, is_deleted, created_at) " +
+            "SELECT id, notification_id, recipient_id, is_read, read_at, is_deleted, created_at FROM notification_recipient WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    /**
+     * 从热表中删除已归档的接收人行
+     * @param ids 接收人行ID列表
+     * @return 受影响的行数
+     */
+    @Delete("<script>" +
+            "DELETE FROM notification_recipient WHERE id IN " +
+            "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach>" +
+            "</script>")
+    int deleteRecipients(@Param("ids") List<Long> ids);
+
+    /**
+     * 查询归档表当前的分区名（未分区时返回空列表）
+     * @return 按分区顺序排列的分区名
+     */
+    @Select("SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification_recipient_archive' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION")
+    List<String> findArchivePartitionNames();
+
+    /**
+     * 从 p_max 中拆出一个按月分区
+     * @param partitionName 分区名 (pYYYYMM)
+     * @param lessThan 分区上界 (yyyy-MM-dd HH:mm:ss)
+     */
+    @Update("ALTER TABLE notification_recipient_archive REORGANIZE PARTITION p_max INTO (" +
+            "PARTITION ${partitionName} VALUES LESS THAN (UNIX_TIMESTAMP('${lessThan}')), " +
+            "PARTITION p_max VALUES LESS THAN MAXVALUE)")
+    void addArchivePartition(@Param("partitionName") String partitionName, @Param("lessThan") String lessThan);
+
+    /**
+     * 删除整月的归档分区
+     * @param partitionName 分区名 (pYYYYMM)
+     */
+    @Update("ALTER TABLE notification_recipient_archive DROP PARTITION ${partitionName}")
+    void dropArchivePartition(@Param("partitionName") String partitionName);
+}
@@ -0,0 +1,74 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+import tech.cspioneer.backend.entity.NotificationFanoutJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationFanoutJobMapper {
+
+    /**
+     * 创建分发任务
+     * @param job 分发任务
+     * @return 受影响的行数
+     */
+    @Insert("INSERT INTO notification_fanout_job(notification_id, audience, audience_id, last_recipient_id, processed_count, status, attempts, created_at, updated_at) " +
+            "VALUES(#{notificationId}, #{audience}, #{audienceId}, #{lastRecipientId}, #{processedCount}, #{status}, #{attempts}, #{createdAt}, #{updatedAt})")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insert(NotificationFanoutJob job);
+
+    /**
+     * 提交断点：记录最后写入的接收用户ID并累加已处理数量
+     * @param id 任务ID
+     * @param lastRecipientId 本次提交的最后一个接收用户ID
+     * @param delta 本次提交写入的接收人数量
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification_fanout_job SET last_recipient_id = #{lastRecipientId}, processed_count = processed_count + #{delta}, updated_at = NOW() " +
+            "WHERE id = #{id} AND status = 'RUNNING'")
+    int updateCheckpoint(@Param("id") Long id, @Param("lastRecipientId") Long lastRecipientId, @Param("delta") long delta);
+
+    /**
+     * 更新任务状态
+     * @param id 任务ID
+     * @param status 新状态
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification_fanout_job SET status = #{status}, updated_at = NOW() WHERE id = #{id}")
+    int updateStatus(@Param("id") Long id, @Param("status") String status);
+
+    /**
+     * 查询长时间没有提交断点的运行中任务（节点崩溃或线程中断）
+     * @param staleBefore 最后提交时间早于该时间的任务视为停滞
+     * @param limit 最大数量
+     * @return 停滞的任务列表
+     */
+    @Select("SELECT * FROM notification_fanout_job WHERE status = 'RUNNING' AND updated_at < #{staleBefore} ORDER BY id LIMIT #{limit}")
+    List<NotificationFanoutJob> findStalledJobs(@Param("staleBefore") LocalDateTime staleBefore, @Param("limit") int limit);
+
+    /**
+     * 认领停滞任务；多个节点同时扫描时只有一个节点能更新成功
+     * @param id 任务ID
+     * @param staleBefore 停滞判定时间
+     * @return 受影响的行数，1 表示认领成功
+     */
+    @Update("UPDATE notification_fanout_job SET attempts = attempts + 1, updated_at = NOW() " +
+            "WHERE id = #{id} AND status = 'RUNNING' AND updated_at < #{staleBefore}")
+    int claimStalledJob(@Param("id") Long id, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 统计运行中的任务数
+     * @return 运行中的任务数
+     */
+    @Select("SELECT COUNT(*) FROM notification_fanout_job WHERE status = 'RUNNING'")
+    long countRunningJobs();
+
+    /**
+     * 查询最早的运行中任务的创建时间，用于计算分发延迟
+     * @return 创建时间，没有运行中的任务时返回 null
+     */
+    @Select("SELECT MIN(created_at) FROM notification_fanout_job WHERE status = 'RUNNING'")
+    LocalDateTime findOldestRunningJobCreatedAt();
+}
@@ -4,7 +4,9 @@ import org.apache.ibatis.annotations.*;
 import tech.cspioneer.backend.entity.Notification;
 import tech.cspioneer.backend.entity.NotificationRecipient;
 import tech.cspioneer.backend.entity.dto.response.NotificationResponse;
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
@@ -15,11 +17,59 @@ public interface NotificationMapper {
      * @param notification 通知对象
      * @return 受影响的行数
      */
-    @Insert("INSERT INTO notification(uuid, sender_id, title, content, type, related_object_type, related_object_id, created_at) " +
-            "VALUES(#{uuid}, #{senderId}, #{title}, #{content}, #{type}, #{relatedObjectType}, #{relatedObjectId}, #{createdAt})")
+    @Insert("INSERT INTO notification(uuid, sender_id, title, content, type, related_object_type, related_object_id, related_object_uuid, audience, audience_id, created_at) " +
+            "VALUES(#{uuid}, #{senderId}, #{title}, #{content}, #{type}, #{relatedObjectType}, #{relatedObjectId}, #{relatedObjectUuid}, #{audience}, #{audienceId}, #{createdAt})")
     @Options(useGeneratedKeys = true, keyProperty = "id")
     int insertNotification(Notification notification);
 
+    /**
+     * 查询通知关联对象的UUID，创建通知时冗余写入 notification.related_object_uuid
+     * @param objectType 关联对象类型
+     * @param objectId 关联对象ID
+     * @return 关联对象UUID，对象不存在时返回 null
+     */
+    @Select("SELECT CASE #{objectType} " +
+            "WHEN 'LESSON' THEN (SELECT uuid FROM lesson WHERE id = #{objectId}) " +
+            "WHEN 'NEWS' THEN (SELECT uuid FROM news WHERE id = #{objectId}) " +
+            "WHEN 'MEETING' THEN (SELECT uuid FROM meeting WHERE id = #{objectId}) " +
+            "WHEN 'USER' THEN (SELECT uuid FROM `user` WHERE id = #{objectId}) " +
+            "WHEN 'COMPANY' THEN (SELECT uuid FROM company WHERE id = #{objectId}) " +
+            "END")
+    String findRelatedObjectUuid(@Param("objectType") RelatedObjectType objectType, @Param("objectId") Long objectId);
+
+    /**
+     * 回填任务：取 afterId 之后第 limit 条通知的ID，作为本批次的右边界
+     * @param afterId 上一批次的右边界
+     * @param limit 批次大小
+     * @return 本批次的右边界，没有更多通知时返回 null
+     */
+    @Select("SELECT MAX(id) FROM (SELECT id FROM notification WHERE id > #{afterId} ORDER BY id LIMIT #{limit}) batch")
+    Long findBackfillUpperBound(@Param("afterId") Long afterId, @Param("limit") Integer limit);
+
+    /**
+     * 回填任务：为ID区间 (afterId, upToId] 内尚未冗余关联对象UUID的通知写入UUID
+     * @param afterId 区间左边界（不含）
+     * @param upToId 区间右边界（含）
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification n " +
+            "LEFT JOIN lesson l ON n.related_object_type = 'LESSON' AND n.related_object_id = l.id " +
+            "LEFT JOIN news nw ON n.related_object_type = 'NEWS' AND n.related_object_id = nw.id " +
+            "LEFT JOIN meeting m ON n.related_object_type = 'MEETING' AND n.related_object_id = m.id " +
+            "LEFT JOIN `user` u ON n.related_object_type = 'USER' AND n.related_object_id = u.id " +
+            "LEFT JOIN company c ON n.related_object_type = 'COMPANY' AND n.related_object_id = c.id " +
+            "SET n.related_object_uuid = COALESCE(l.uuid, nw.uuid, m.uuid, u.uuid, c.uuid) " +
+            "WHERE n.id > #{afterId} AND n.id <= #{upToId} " +
+            "AND n.related_object_type IS NOT NULL AND n.related_object_uuid IS NULL")
+    int backfillRelatedObjectUuids(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    /**
+     * 回填任务：统计仍缺少关联对象UUID的通知数量
+     * @return 待回填的通知数量（包含关联对象已被物理删除的通知）
+     */
+    @Select("SELECT COUNT(*) FROM notification WHERE related_object_type IS NOT NULL AND related_object_uuid IS NULL")
+    Long countMissingRelatedObjectUuids();
+
     /**
      * 批量插入通知接收人
      * @param recipients 接收人列表
@@ -34,36 +84,28 @@ public interface NotificationMapper {
     int batchInsertNotificationRecipients(@Param("list") List<NotificationRecipient> recipients);
 
     /**
-     * 根据用户ID分页查询通知
+     * 按接收用户ID批量写入接收人记录，已存在的记录会被忽略（断点续传时可安全重放）
+     * @param notificationId 通知ID
+     * @param recipientIds 接收用户ID列表
+     * @param createdAt 接收时间
+     * @return 受影响的行数
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO notification_recipient(notification_id, recipient_id, is_read, is_deleted, created_at) VALUES " +
+            "<foreach collection='recipientIds' item='recipientId' separator=','>" +
+            "(#{notificationId}, #{recipientId}, 0, 0, #{createdAt})" +
+            "</foreach>" +
+            "</script>")
+    int batchInsertRecipientIds(@Param("notificationId") Long notificationId, @Param("recipientIds") List<Long> recipientIds, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 根据用户ID分页查询通知（合并定向通知与广播通知）
      * @param recipientId 接收用户ID
      * @param offset 分页偏移量
      * @param limit 每页数量
      * @return 通知响应对象列表
      */
-    @Select("<script>" +
-            "SELECT " +
-            "n.uuid, n.title, n.content, n.type, n.related_object_type, n.created_at, " +
-            "nr.is_read, nr.read_at, " +
-            "CASE " +
-            "  WHEN n.related_object_type = 'LESSON' THEN l.uuid " +
-            "  WHEN n.related_object_type = 'NEWS' THEN nw.uuid " +
-            "  WHEN n.related_object_type = 'MEETING' THEN m.uuid " +
-            "  WHEN n.related_object_type = 'USER' THEN u.uuid " +
-            "  WHEN n.related_object_type = 'COMPANY' THEN c.uuid " +
-            "  ELSE NULL " +
-            "END AS relatedObjectUuid " +
-            "FROM notification n " +
-            "JOIN notification_recipient nr ON n.id = nr.notification_id " +
-            "LEFT JOIN lesson l ON n.related_object_type = 'LESSON' AND n.related_object_id = l.id " +
-            "LEFT JOIN news nw ON n.related_object_type = 'NEWS' AND n.related_object_id = nw.id " +
-            "LEFT JOIN meeting m ON n.related_object_type = 'MEETING' AND n.related_object_id = m.id " +
-            "LEFT JOIN `user` u ON n.related_object_type = 'USER' AND n.related_object_id = u.id " +
-            "LEFT JOIN company c ON n.related_object_type = 'COMPANY' AND n.related_object_id = c.id " +
-            "WHERE nr.recipient_id = #{recipientId} AND nr.is_deleted = 0 " +
-            "<if test='isRead != null'> AND nr.is_read = #{isRead} </if>" +
-            "ORDER BY n.created_at DESC " +
-            "LIMIT #{limit} OFFSET #{offset}" +
-            "</script>")
+    @SelectProvider(type = NotificationSqlProvider.class, method = "findNotificationsByRecipientId")
     @Results({
             @Result(property = "uuid", column = "uuid"),
             @Result(property = "title", column = "title"),
@@ -78,37 +120,124 @@ public interface NotificationMapper {
     List<NotificationResponse> findNotificationsByRecipientId(@Param("recipientId") Long recipientId, @Param("isRead") Boolean isRead, @Param("offset") Integer offset, @Param("limit") Integer limit);
 
     /**
-     * 根据用户ID和读取状态统计通知总数
+     * 查询用户可见的单条通知详情，一条语句完成用户定位、归属校验和已读状态合并
+     * @param notificationUuid 通知UUID
+     * @param userUuid 用户UUID
+     * @return 通知详情，通知不存在、已删除或不属于该用户时返回 null
+     */
+    @Select("SELECT n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid AS relatedObjectUuid, n.created_at, " +
+            "CASE WHEN nr.is_read = 1 OR (n.audience IS NOT NULL AND n.created_at <= w.read_before) THEN 1 ELSE 0 END AS is_read, " +
+            "CASE WHEN nr.is_read = 1 THEN nr.read_at WHEN n.audience IS NOT NULL AND n.created_at <= w.read_before THEN w.read_before END AS read_at " +
+            "FROM notification n " +
+            "JOIN `user` ru ON ru.uuid = #{userUuid} " +
+            "LEFT JOIN notification_recipient nr ON nr.notification_id = n.id AND nr.recipient_id = ru.id " +
+            "LEFT JOIN notification_read_watermark w ON w.user_id = ru.id " +
+            "WHERE n.uuid = #{notificationUuid} AND (nr.is_deleted IS NULL OR nr.is_deleted = 0) " +
+            "AND ((n.audience IS NULL AND nr.id IS NOT NULL) " +
+            "OR ((n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id)) AND n.created_at >= ru.created_at))")
+    @Results({
+            @Result(property = "uuid", column = "uuid"),
+            @Result(property = "title", column = "title"),
+            @Result(property = "content", column = "content"),
+            @Result(property = "type", column = "type"),
+            @Result(property = "relatedObjectType", column = "related_object_type"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "isRead", column = "is_read"),
+            @Result(property = "readAt", column = "read_at"),
+            @Result(property = "relatedObjectUuid", column = "relatedObjectUuid")
+    })
+    NotificationResponse findNotificationDetail(@Param("notificationUuid") String notificationUuid, @Param("userUuid") String userUuid);
+
+    /**
+     * 根据用户ID和读取状态统计通知总数（合并定向通知与广播通知）
      * @param recipientId 接收用户ID
      * @param isRead 读取状态 (true: 已读, false: 未读, null: 全部)
      * @return 通知总数
      */
-    @Select("<script>" +
-            "SELECT COUNT(*) FROM notification_recipient " +
-            "WHERE recipient_id = #{recipientId} AND is_deleted = 0" +
-            "<if test='isRead != null'>" +
-            "  AND is_read = #{isRead}" +
-            "</if>" +
-            "</script>")
+    @SelectProvider(type = NotificationSqlProvider.class, method = "countNotificationsByRecipientId")
     Long countNotificationsByRecipientId(@Param("recipientId") Long recipientId, @Param("isRead") Boolean isRead);
 
     /**
-     * 根据用户ID统计未读通知数
+     * 根据用户ID分页查询通知历史（在收件箱基础上合并已归档的定向通知）
+     * @param recipientId 接收用户ID
+     * @param isRead 读取状态 (true: 已读, false: 未读, null: 全部)
+     * @param offset 分页偏移量
+     * @param limit 每页数量
+     * @return 通知响应对象列表
+     */
+    @SelectProvider(type = NotificationSqlProvider.class, method = "findNotificationHistoryByRecipientId")
+    @Results({
+            @Result(property = "uuid", column = "uuid"),
+            @Result(property = "title", column = "title"),
+            @Result(property = "content", column = "content"),
+            @Result(property = "type", column = "type"),
+            @Result(property = "relatedObjectType", column = "related_object_type"),
+            @Result(property = "createdAt", column = "created_at"),
+            @Result(property = "isRead", column = "is_read"),
+            @Result(property = "readAt", column = "read_at"),
+            @Result(property = "relatedObjectUuid", column = "relatedObjectUuid")
+    })
+    List<NotificationResponse> findNotificationHistoryByRecipientId(@Param("recipientId") Long recipientId, @Param("isRead") Boolean isRead, @Param("offset") Integer offset, @Param("limit") Integer limit);
+
+    /**
+     * 根据用户ID和读取状态统计通知历史总数（在收件箱基础上合并已归档的定向通知）
+     * @param recipientId 接收用户ID
+     * @param isRead 读取状态 (true: 已读, false: 未读, null: 全部)
+     * @return 通知总数
+     */
+    @SelectProvider(type = NotificationSqlProvider.class, method = "countNotificationHistoryByRecipientId")
+    Long countNotificationHistoryByRecipientId(@Param("recipientId") Long recipientId, @Param("isRead") Boolean isRead);
+
+    /**
+     * 根据用户ID统计未读通知数（合并定向通知与广播通知）
      * @param recipientId 接收用户ID
      * @return 未读通知数
      */
-    @Select("SELECT COUNT(*) FROM notification_recipient WHERE recipient_id = #{recipientId} AND is_read = 0 AND is_deleted = 0")
+    @SelectProvider(type = NotificationSqlProvider.class, method = "countUnreadNotificationsByRecipientId")
     Long countUnreadNotificationsByRecipientId(@Param("recipientId") Long recipientId);
 
     /**
-     * 将单条通知标记为已读
+     * 将单条通知标记为已读（只更新未读行，返回值可用于维护未读计数）
      * @param notificationId 通知ID
      * @param recipientId 接收用户ID
-     * @return 受影响的行数
+     * @return 受影响的行数，1 表示由未读变为已读
      */
-    @Update("UPDATE notification_recipient SET is_read = 1, read_at = CURRENT_TIMESTAMP WHERE notification_id = #{notificationId} AND recipient_id = #{recipientId}")
+    @Update("UPDATE notification_recipient SET is_read = 1, read_at = CURRENT_TIMESTAMP WHERE notification_id = #{notificationId} AND recipient_id = #{recipientId} AND is_read = 0")
     int markAsRead(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
 
+    /**
+     * 按UUID批量将用户已有的未读接收人行标记为已读（广播通知的覆盖行只会以已读或已删除状态存在，因此这里只命中定向通知）
+     * @param recipientId 接收用户ID
+     * @param notificationUuids 通知UUID列表
+     * @return 受影响的行数，即由未读变为已读的定向通知数量
+     */
+    @Update("<script>" +
+            "UPDATE notification_recipient nr JOIN notification n ON n.id = nr.notification_id " +
+            "SET nr.is_read = 1, nr.read_at = CURRENT_TIMESTAMP " +
+            "WHERE nr.recipient_id = #{recipientId} AND nr.is_read = 0 AND nr.is_deleted = 0 AND n.uuid IN " +
+            "<foreach collection='notificationUuids' item='uuid' open='(' separator=',' close=')'>#{uuid}</foreach>" +
+            "</script>")
+    int markAsReadByUuids(@Param("recipientId") Long recipientId, @Param("notificationUuids") List<String> notificationUuids);
+
+    /**
+     * 按UUID批量将用户可见、尚无覆盖行且未被已读水位覆盖的广播通知标记为已读
+     * @param recipientId 接收用户ID
+     * @param notificationUuids 通知UUID列表
+     * @return 写入的覆盖行数量，即由未读变为已读的广播通知数量
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO notification_recipient(notification_id, recipient_id, is_read, read_at, is_deleted, created_at) " +
+            "SELECT n.id, ru.id, 1, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP " +
+            "FROM notification n " +
+            "JOIN `user` ru ON ru.id = #{recipientId} " +
+            "LEFT JOIN notification_read_watermark w ON w.user_id = ru.id " +
+            "WHERE (n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id)) " +
+            "AND n.created_at >= ru.created_at AND (w.read_before IS NULL OR n.created_at > w.read_before) " +
+            "AND n.uuid IN " +
+            "<foreach collection='notificationUuids' item='uuid' open='(' separator=',' close=')'>#{uuid}</foreach>" +
+            "</script>")
+    int insertBroadcastReadByUuids(@Param("recipientId") Long recipientId, @Param("notificationUuids") List<String> notificationUuids);
+
     /**
      * 将用户所有未读通知标记为已读
      * @param recipientId 接收用户ID
@@ -117,6 +246,37 @@ public interface NotificationMapper {
     @Update("UPDATE notification_recipient SET is_read = 1, read_at = CURRENT_TIMESTAMP WHERE recipient_id = #{recipientId} AND is_read = 0")
     int markAllAsRead(@Param("recipientId") Long recipientId);
 
+    /**
+     * 将广播通知标记为已读：写入或更新该用户的覆盖行
+     * @param notificationId 通知ID
+     * @param recipientId 接收用户ID
+     * @return 受影响的行数
+     */
+    @Insert("INSERT INTO notification_recipient(notification_id, recipient_id, is_read, read_at, is_deleted, created_at) " +
+            "VALUES(#{notificationId}, #{recipientId}, 1, CURRENT_TIMESTAMP, 0, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE read_at = IF(is_read = 1, read_at, CURRENT_TIMESTAMP), is_read = 1")
+    int upsertBroadcastRead(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
+
+    /**
+     * 软删除广播通知：写入或更新该用户的覆盖行
+     * @param notificationId 通知ID
+     * @param recipientId 接收用户ID
+     * @return 受影响的行数
+     */
+    @Insert("INSERT INTO notification_recipient(notification_id, recipient_id, is_read, read_at, is_deleted, created_at) " +
+            "VALUES(#{notificationId}, #{recipientId}, 0, NULL, 1, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE is_deleted = 1")
+    int upsertBroadcastDelete(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
+
+    /**
+     * 推进用户的广播已读水位：此时间之前的广播通知均视为已读
+     * @param recipientId 接收用户ID
+     * @return 受影响的行数
+     */
+    @Insert("INSERT INTO notification_read_watermark(user_id, read_before) VALUES(#{recipientId}, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE read_before = CURRENT_TIMESTAMP")
+    int advanceReadWatermark(@Param("recipientId") Long recipientId);
+
     /**
      * 更新通知内容
      * @param notification 通知对象
@@ -125,6 +285,14 @@ public interface NotificationMapper {
     @Update("UPDATE notification SET title = #{title}, content = #{content} WHERE id = #{id}")
     int updateNotification(Notification notification);
 
+    /**
+     * 根据ID查找通知
+     * @param id 通知ID
+     * @return 通知对象
+     */
+    @Select("SELECT * FROM notification WHERE id = #{id}")
+    Notification findNotificationById(@Param("id") Long id);
+
     /**
      * 根据UUID查找通知
      * @param uuid 通知的UUID
@@ -134,14 +302,54 @@ public interface NotificationMapper {
     Notification findNotificationByUuid(@Param("uuid") String uuid);
 
     /**
-     * 软删除用户收到的某条通知
+     * 查询用户收到的某条定向通知是否未读且未删除
      * @param notificationId 通知ID
      * @param recipientId 接收用户ID
-     * @return 受影响的行数
+     * @return 未读且未删除时返回 true
      */
-    @Update("UPDATE notification_recipient SET is_deleted = 1 WHERE notification_id = #{notificationId} AND recipient_id = #{recipientId}")
+    @Select("SELECT COUNT(*) > 0 FROM notification_recipient WHERE notification_id = #{notificationId} AND recipient_id = #{recipientId} AND is_read = 0 AND is_deleted = 0")
+    boolean isUnread(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
+
+    /**
+     * 软删除用户收到的某条通知（只更新未删除行，返回值可用于维护计数）
+     * @param notificationId 通知ID
+     * @param recipientId 接收用户ID
+     * @return 受影响的行数，1 表示本次删除生效
+     */
+    @Update("UPDATE notification_recipient SET is_deleted = 1 WHERE notification_id = #{notificationId} AND recipient_id = #{recipientId} AND is_deleted = 0")
     int softDelete(@Param("notificationId") Long notificationId, @Param("recipientId") Long recipientId);
 
+    /**
+     * 按UUID批量软删除用户已有的接收人行（定向通知及广播通知的覆盖行）
+     * @param recipientId 接收用户ID
+     * @param notificationUuids 通知UUID列表
+     * @return 受影响的行数
+     */
+    @Update("<script>" +
+            "UPDATE notification_recipient nr JOIN notification n ON n.id = nr.notification_id " +
+            "SET nr.is_deleted = 1 " +
+            "WHERE nr.recipient_id = #{recipientId} AND nr.is_deleted = 0 AND n.uuid IN " +
+            "<foreach collection='notificationUuids' item='uuid' open='(' separator=',' close=')'>#{uuid}</foreach>" +
+            "</script>")
+    int softDeleteByUuids(@Param("recipientId") Long recipientId, @Param("notificationUuids") List<String> notificationUuids);
+
+    /**
+     * 按UUID批量为用户可见、尚无覆盖行的广播通知写入已删除的覆盖行
+     * @param recipientId 接收用户ID
+     * @param notificationUuids 通知UUID列表
+     * @return 写入的覆盖行数量
+     */
+    @Insert("<script>" +
+            "INSERT IGNORE INTO notification_recipient(notification_id, recipient_id, is_read, read_at, is_deleted, created_at) " +
+            "SELECT n.id, ru.id, 0, NULL, 1, CURRENT_TIMESTAMP " +
+            "FROM notification n " +
+            "JOIN `user` ru ON ru.id = #{recipientId} " +
+            "WHERE (n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id)) " +
+            "AND n.created_at >= ru.created_at AND n.uuid IN " +
+            "<foreach collection='notificationUuids' item='uuid' open='(' separator=',' close=')'>#{uuid}</foreach>" +
+            "</script>")
+    int insertBroadcastDeleteByUuids(@Param("recipientId") Long recipientId, @Param("notificationUuids") List<String> notificationUuids);
+
     /**
      * [ADMIN] 分页查询所有通知记录
      * @param offset 分页偏移量
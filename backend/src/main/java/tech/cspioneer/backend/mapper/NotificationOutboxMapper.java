@@ -0,0 +1,85 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.annotations.*;
+import tech.cspioneer.backend.entity.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface NotificationOutboxMapper {
+
+    /**
+     * 写入待分发事件（与业务变更处于同一事务）
+     * @param event 待分发事件
+     * @return 受影响的行数
+     */
+    @Insert("INSERT INTO notification_outbox(notification_uuid, target_type, target_id, title, content, related_object_type, related_object_id, status, attempts, next_attempt_at, created_at) " +
+            "VALUES(#{notificationUuid}, #{targetType}, #{targetId}, #{title}, #{content}, #{relatedObjectType}, #{relatedObjectId}, #{status}, #{attempts}, #{nextAttemptAt}, #{createdAt})")
+    @Options(useGeneratedKeys = true, keyProperty = "id")
+    int insert(NotificationOutbox event);
+
+    /**
+     * 认领一批到期的待分发事件：写入租约持有者和租约到期时间，租约过期的事件可被其他节点重新认领
+     * @param owner 租约持有者（节点标识）
+     * @param leaseUntil 租约到期时间
+     * @param limit 最大认领数量
+     * @return 认领的事件数
+     */
+    @Update("UPDATE notification_outbox SET locked_by = #{owner}, locked_until = #{leaseUntil} " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= NOW() AND (locked_until IS NULL OR locked_until < NOW()) " +
+            "ORDER BY id LIMIT #{limit}")
+    int claimBatch(@Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil, @Param("limit") int limit);
+
+    /**
+     * 查询本节点本次认领的事件
+     * @param owner 租约持有者
+     * @param leaseUntil 租约到期时间
+     * @return 事件列表
+     */
+    @Select("SELECT * FROM notification_outbox WHERE locked_by = #{owner} AND locked_until = #{leaseUntil} AND status = 'PENDING' ORDER BY id")
+    List<NotificationOutbox> findClaimed(@Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 标记事件已分发
+     * @param id 事件ID
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification_outbox SET status = 'DISPATCHED', dispatched_at = NOW(), locked_by = NULL, locked_until = NULL WHERE id = #{id}")
+    int markDispatched(@Param("id") Long id);
+
+    /**
+     * 分发失败，释放租约并安排下一次重试
+     * @param id 事件ID
+     * @param nextAttemptAt 下一次重试时间
+     * @param lastError 失败原因
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification_outbox SET attempts = attempts + 1, next_attempt_at = #{nextAttemptAt}, last_error = #{lastError}, " +
+            "locked_by = NULL, locked_until = NULL WHERE id = #{id}")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    /**
+     * 超过最大重试次数，标记为失败
+     * @param id 事件ID
+     * @param lastError 失败原因
+     * @return 受影响的行数
+     */
+    @Update("UPDATE notification_outbox SET status = 'FAILED', attempts = attempts + 1, last_error = #{lastError}, " +
+            "locked_by = NULL, locked_until = NULL WHERE id = #{id}")
+    int markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+
+    /**
+     * 统计待分发事件数（队列深度）
+     * @return 待分发事件数
+     */
+    @Select("SELECT COUNT(*) FROM notification_outbox WHERE status = 'PENDING'")
+    long countPending();
+
+    /**
+     * 查询最早的待分发事件的创建时间
+     * @return 创建时间，队列为空时返回 null
+     */
+    @Select("SELECT MIN(created_at) FROM notification_outbox WHERE status = 'PENDING'")
+    LocalDateTime findOldestPendingCreatedAt();
+}
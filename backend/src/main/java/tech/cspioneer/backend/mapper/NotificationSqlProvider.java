@@ -0,0 +1,84 @@
+package tech.cspioneer.backend.mapper;
+
+import java.util.Map;
+
+/**
+ * 用户收件箱查询。
+ * 收件箱由两部分合并而成：
+ * 1. 定向通知：notification.audience 为 NULL，每个接收人一行 notification_recipient；
+ * 2. 广播通知：notification.audience 为 ALL/COMPANY，只存一行通知，
+ *    用户的已读/删除状态来自稀疏的 notification_recipient 覆盖行和 notification_read_watermark 已读水位。
+ * 历史查询 (history) 额外合并 notification_recipient_archive 中被保留策略归档的定向通知接收人行。
+ */
+public class NotificationSqlProvider {
+
+    private static final String DIRECT =
+            "SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid, n.created_at, " +
+            "nr.is_read, nr.read_at " +
+            "FROM notification n " +
+            "JOIN notification_recipient nr ON n.id = nr.notification_id " +
+            "WHERE nr.recipient_id = #{recipientId} AND nr.is_deleted = 0 AND n.audience IS NULL ";
+
+    private static final String BROADCAST =
+            "SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid, n.created_at, " +
+            "CASE WHEN nr.is_read = 1 OR n.created_at <= w.read_before THEN 1 ELSE 0 END AS is_read, " +
+            "CASE WHEN nr.is_read = 1 THEN nr.read_at WHEN n.created_at <= w.read_before THEN w.read_before END AS read_at " +
+            "FROM notification n " +
+            "JOIN `user` ru ON ru.id = #{recipientId} " +
+            "LEFT JOIN notification_recipient nr ON nr.notification_id = n.id AND nr.recipient_id = ru.id " +
+            "LEFT JOIN notification_read_watermark w ON w.user_id = ru.id " +
+            "WHERE (n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id)) " +
+            "AND n.created_at >= ru.created_at " +
+            "AND (nr.is_deleted IS NULL OR nr.is_deleted = 0) ";
+
+    private static final String ARCHIVED =
+            "SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid, n.created_at, " +
+            "a.is_read, a.read_at " +
+            "FROM notification n " +
+            "JOIN notification_recipient_archive a ON n.id = a.notification_id " +
+            "WHERE a.recipient_id = #{recipientId} AND a.is_deleted = 0 ";
+
+    private static final String INBOX = "(" + DIRECT + "UNION ALL " + BROADCAST + ") inbox ";
+
+    private static final String HISTORY = "(" + DIRECT + "UNION ALL " + BROADCAST + "UNION ALL " + ARCHIVED + ") inbox ";
+
+    public String findNotificationsByRecipientId(Map<String, Object> params) {
+        return page(INBOX, params);
+    }
+
+    public String countNotificationsByRecipientId(Map<String, Object> params) {
+        return count(INBOX, params);
+    }
+
+    public String countUnreadNotificationsByRecipientId(Map<String, Object> params) {
+        return "SELECT COUNT(*) FROM " + INBOX + "WHERE inbox.is_read = 0";
+    }
+
+    public String findNotificationHistoryByRecipientId(Map<String, Object> params) {
+        return page(HISTORY, params);
+    }
+
+    public String countNotificationHistoryByRecipientId(Map<String, Object> params) {
+        return count(HISTORY, params);
+    }
+
+    private String page(String source, Map<String, Object> params) {
+        // 关联对象UUID在创建通知时已冗余到 notification 行上，列表查询只涉及通知与接收人两张表
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT inbox.uuid, inbox.title, inbox.content, inbox.type, inbox.related_object_type, inbox.created_at, ")
+                .append("inbox.is_read, inbox.read_at, inbox.related_object_uuid AS relatedObjectUuid ")
+                .append("FROM ").append(source);
+        if (params.get("isRead") != null) {
+            sql.append("WHERE inbox.is_read = #{isRead} ");
+        }
+        return sql.append("ORDER BY inbox.created_at DESC, inbox.id DESC LIMIT #{limit} OFFSET #{offset}").toString();
+    }
+
+    private String count(String source, Map<String, Object> params) {
+        String sql = "SELECT COUNT(*) FROM " + source;
+        if (params.get("isRead") != null) {
+            sql += "WHERE inbox.is_read = #{isRead}";
+        }
+        return sql;
+    }
+}
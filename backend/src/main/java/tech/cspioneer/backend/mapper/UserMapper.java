@@ -1,6 +1,8 @@
 package tech.cspioneer.backend.mapper;
 
 import org.apache.ibatis.annotations.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 import tech.cspioneer.backend.entity.User;
 
 import java.util.List;
@@ -56,6 +58,41 @@ public interface UserMapper {
     @Select("SELECT id FROM user WHERE company_id = #{companyId} AND is_deleted = 0 AND status = 'ACTIVE'")
     List<Long> findActiveUserIdsByCompanyId(@Param("companyId") Long companyId);
 
+    /**
+     * 以游标方式流式读取ID大于 afterId 的所有活跃用户ID（按ID升序，便于断点续传）
+     * @param afterId 断点，从该ID之后开始读取
+     * @return 用户ID游标，调用方负责关闭
+     */
+    @Select("SELECT id FROM user WHERE id > #{afterId} AND is_deleted = 0 AND status = 'ACTIVE' ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<Long> scanActiveUserIds(@Param("afterId") Long afterId);
+
+    /**
+     * 以游标方式流式读取公司中ID大于 afterId 的活跃用户ID（按ID升序，便于断点续传）
+     * @param companyId 公司ID
+     * @param afterId 断点，从该ID之后开始读取
+     * @return 用户ID游标，调用方负责关闭
+     */
+    @Select("SELECT id FROM user WHERE company_id = #{companyId} AND id > #{afterId} AND is_deleted = 0 AND status = 'ACTIVE' ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<Long> scanActiveUserIdsByCompanyId(@Param("companyId") Long companyId, @Param("afterId") Long afterId);
+
+    /**
+     * 以游标方式流式读取所有活跃用户的ID与所属公司ID，用于构建受众索引
+     * @return 仅包含 id 和 companyId 的用户游标，调用方负责关闭
+     */
+    @Select("SELECT id, company_id FROM user WHERE is_deleted = 0 AND status = 'ACTIVE' ORDER BY id")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<User> scanActiveUserAudience();
+
+    /**
+     * 查询活跃用户的ID与所属公司ID，用于增量更新受众索引
+     * @param id 用户ID
+     * @return 仅包含 id 和 companyId 的用户对象，用户不存在、已删除或非活跃时返回 null
+     */
+    @Select("SELECT id, company_id FROM user WHERE id = #{id} AND is_deleted = 0 AND status = 'ACTIVE'")
+    User findActiveUserAudience(@Param("id") Long id);
+
     /**
      * 更新用户信息
      * @param user 用户对象
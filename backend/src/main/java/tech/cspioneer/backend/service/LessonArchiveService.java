@@ -0,0 +1,18 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.LessonArchiveStatusResponse;
+
+public interface LessonArchiveService {
+
+    /**
+     * 将归档超过最小保留时间的课程版本及其资源分批移入归档表
+     */
+    void archive();
+
+    /**
+     * 获取归档任务的执行情况
+     *
+     * @return 状态快照
+     */
+    LessonArchiveStatusResponse getStatus();
+}
@@ -0,0 +1,34 @@
+package tech.cspioneer.backend.service;
+
+public interface LessonCountService {
+
+    /**
+     * 课程列表（getAllLessons）的总数。只有时间筛选时精确计数；带名称/作者模糊筛选时先由当前页推算，
+     * 推算不出时读取按筛选条件缓存的计数，缓存缺失时做有上限的计数
+     *
+     * @param offset   当前页偏移量
+     * @param pageRows 当前页实际返回的行数
+     * @param pageSize 页大小
+     * @return 总数及是否精确
+     */
+    Count countLessons(String name, String authorName, String beginTime, String endTime,
+                       int offset, int pageRows, int pageSize);
+
+    /**
+     * 课程搜索（searchLesson）的总数，规则同 countLessons
+     *
+     * @param keyword  搜索关键字
+     * @param offset   当前页偏移量
+     * @param pageRows 当前页实际返回的行数
+     * @param pageSize 页大小
+     * @return 总数及是否精确
+     */
+    Count countSearch(String keyword, int offset, int pageRows, int pageSize);
+
+    /**
+     * @param total 总数
+     * @param exact 是否为精确值；为 false 时来自短期缓存或达到计数上限
+     */
+    record Count(long total, boolean exact) {
+    }
+}
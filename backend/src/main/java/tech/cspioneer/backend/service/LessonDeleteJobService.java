@@ -0,0 +1,32 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.LessonDeleteJobResponse;
+
+import java.util.List;
+
+public interface LessonDeleteJobService {
+
+    /**
+     * 判断该数量的删除请求是否需要转为后台任务
+     *
+     * @param size 请求删除的课程UUID数量
+     * @return 超过同步删除上限时返回 true
+     */
+    boolean shouldRunInBackground(int size);
+
+    /**
+     * 提交后台删除任务，按分片调用 LessonService.deleteLesson，每个分片单独提交
+     *
+     * @param uuids 课程UUID列表
+     * @return 任务初始状态
+     */
+    LessonDeleteJobResponse submit(List<String> uuids);
+
+    /**
+     * 查询删除任务进度
+     *
+     * @param jobId 任务ID
+     * @return 任务状态，任务不存在或已过期时返回 null
+     */
+    LessonDeleteJobResponse getJob(String jobId);
+}
@@ -0,0 +1,23 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.LessonResources;
+
+import java.util.List;
+
+public interface LessonResourceCacheService {
+
+    /**
+     * 获取已生效课程版本的全部资源（按 sort_order 排序，不可修改）。已生效的版本不再修改，按版本ID缓存
+     *
+     * @param lessonVersionId 课程版本ID
+     * @return 资源列表，资源数超过单版本缓存上限时返回 null，由调用方在数据库分页
+     */
+    List<LessonResources> getResources(Long lessonVersionId);
+
+    /**
+     * 课程被删除后调用，清除这些版本的资源列表
+     *
+     * @param lessonVersionIds 课程版本ID列表
+     */
+    void evict(List<Long> lessonVersionIds);
+}
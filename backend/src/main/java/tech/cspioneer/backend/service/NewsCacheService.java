@@ -0,0 +1,38 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.News;
+import tech.cspioneer.backend.entity.dto.response.NewsCacheMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.NewsDetailResponse;
+
+public interface NewsCacheService {
+
+    /**
+     * 根据UUID获取新闻（含当前发布内容ID、公司ID、可见性），读穿两级缓存
+     *
+     * @param uuid 新闻UUID
+     * @return 新闻，不存在或已删除时返回 null
+     */
+    News getNews(String uuid);
+
+    /**
+     * 获取新闻当前发布版本的详情。已发布的 news_content 不再修改，按内容ID缓存
+     *
+     * @param news 新闻
+     * @return 新闻详情，新闻没有已发布内容时返回 null
+     */
+    NewsDetailResponse getPublishedDetail(News news);
+
+    /**
+     * 新闻被审核、编辑或删除后调用，清除 UUID 到当前内容的映射
+     *
+     * @param uuid 新闻UUID
+     */
+    void evictNews(String uuid);
+
+    /**
+     * 获取缓存命中率
+     *
+     * @return 指标快照
+     */
+    NewsCacheMetricsResponse getMetrics();
+}
@@ -0,0 +1,18 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.NewsCompactionStatusResponse;
+
+public interface NewsContentCompactionService {
+
+    /**
+     * 将超过最小保留时间、已被替代的新闻内容版本分批移入归档表
+     */
+    void compact();
+
+    /**
+     * 获取归档任务的执行情况
+     *
+     * @return 状态快照
+     */
+    NewsCompactionStatusResponse getStatus();
+}
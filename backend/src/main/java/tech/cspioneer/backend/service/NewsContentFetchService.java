@@ -0,0 +1,15 @@
+package tech.cspioneer.backend.service;
+
+import java.io.IOException;
+
+public interface NewsContentFetchService {
+
+    /**
+     * 获取新闻正文 HTML。结果按资源URL缓存，同一URL的并发请求共享一次下载
+     *
+     * @param resourceUrl news_content.resource_url
+     * @return 正文内容
+     * @throws IOException 下载失败、超时、响应过大且没有可用的缓存副本时抛出
+     */
+    String fetch(String resourceUrl) throws IOException;
+}
@@ -0,0 +1,32 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.NewsListResponse;
+import tech.cspioneer.backend.entity.query.NewsListQuery;
+
+import java.util.List;
+
+public interface NewsFeedService {
+
+    /**
+     * 新闻发布、编辑、审核、可见性变化或删除后调用，按新闻当前状态刷新其展示行
+     *
+     * @param newsIds 新闻ID列表
+     */
+    void refresh(List<Long> newsIds);
+
+    /**
+     * 查询公开新闻与本公司新闻，按创建时间倒序分页
+     *
+     * @param companyId 本公司ID，为空时只返回公开新闻
+     * @param query 过滤与分页条件
+     * @return 新闻列表
+     */
+    List<NewsListResponse> getFeed(Long companyId, NewsListQuery query);
+
+    /**
+     * 按新闻表分批重建全部展示行
+     *
+     * @return 处理的新闻数量
+     */
+    long rebuild();
+}
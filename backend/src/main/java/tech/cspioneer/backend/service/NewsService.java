@@ -1,6 +1,7 @@
 package tech.cspioneer.backend.service;
 
 import tech.cspioneer.backend.entity.dto.request.NewsAuditReviewRequest;
+import tech.cspioneer.backend.entity.dto.request.NewsBulkAuditRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsQueryRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUploadRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUpdateRequest;
@@ -24,7 +25,18 @@ public interface NewsService {
 
     void auditNews(String uuid, String adminUuid, NewsAuditReviewRequest newsAuditReviewRequest);
 
-    List<NewsHistoryResponse> getNewsAuditHistoryList(String uuid, String userUuid, String identity);
+    /**
+     * 批量审核新闻：同一审核结论作用于所有UUID，在一个事务内批量写入。
+     * 不存在或不在待审核状态的新闻跳过，并在逐条结果中说明原因
+     */
+    NewsBulkAuditResponse bulkAuditNews(String adminUuid, NewsBulkAuditRequest request);
+
+    /**
+     * 查询新闻审核历史
+     *
+     * @param includeArchived 是否包含已移入归档表的历史版本
+     */
+    List<NewsHistoryResponse> getNewsAuditHistoryList(String uuid, String userUuid, String identity, boolean includeArchived);
 
     void deleteNewsAsRoot(String uuid);
 }
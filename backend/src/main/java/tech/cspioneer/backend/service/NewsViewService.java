@@ -0,0 +1,29 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.NewsTrendingResponse;
+
+import java.util.List;
+
+public interface NewsViewService {
+
+    /**
+     * 记录一次新闻浏览，只在内存中累加，由定时任务批量落库
+     *
+     * @param newsId 新闻ID
+     * @param publicNews 是否公开新闻，只有公开新闻参与热门排行
+     */
+    void recordView(Long newsId, boolean publicNews);
+
+    /**
+     * 将内存中累计的浏览次数批量写入 news_stats，并按时间衰减权重更新热门排行
+     */
+    void flush();
+
+    /**
+     * 获取热门新闻
+     *
+     * @param limit 数量
+     * @return 按热度从高到低排列的新闻
+     */
+    List<NewsTrendingResponse> getTrending(int limit);
+}
@@ -0,0 +1,86 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.AudienceIndexMetricsResponse;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+
+import java.util.stream.LongStream;
+
+/**
+ * 通知受众索引。
+ * 保存活跃用户、各公司的活跃用户和各会议已通过审核的参会者，
+ * 返回的用户ID均为按升序排列的快照，调用方以原始类型遍历，不受索引后续更新影响；
+ * 需要集合运算时（如“公司A 减去已通知用户”）使用 audienceExcluding / audienceIntersecting，在索引内部完成差集与交集。
+ */
+public interface NotificationAudienceService {
+
+    /**
+     * 索引是否已完成首次构建
+     *
+     * @return 未就绪时调用方应回退到数据库查询
+     */
+    boolean isReady();
+
+    /**
+     * 获取分发范围内的活跃用户
+     *
+     * @param audience   分发范围
+     * @param audienceId 分发范围ID (COMPANY 时为公司ID, ALL 时为 null)
+     * @param afterUserId 只返回大于该ID的用户，用于从断点继续
+     * @return 按ID升序排列的活跃用户ID快照
+     */
+    LongStream audience(FanoutAudience audience, Long audienceId, long afterUserId);
+
+    /**
+     * 获取分发范围内、且不在给定用户集合中的活跃用户（差集）
+     *
+     * @param audience        分发范围
+     * @param audienceId      分发范围ID (COMPANY 时为公司ID, ALL 时为 null)
+     * @param excludedUserIds 要排除的用户ID，例如已通知的用户，无需有序
+     * @return 按ID升序排列的活跃用户ID快照
+     */
+    LongStream audienceExcluding(FanoutAudience audience, Long audienceId, long[] excludedUserIds);
+
+    /**
+     * 获取给定用户中属于分发范围的活跃用户（交集）
+     *
+     * @param audience   分发范围
+     * @param audienceId 分发范围ID (COMPANY 时为公司ID, ALL 时为 null)
+     * @param userIds    候选用户ID，例如某会议的参会者，无需有序
+     * @return 按ID升序排列的活跃用户ID快照
+     */
+    LongStream audienceIntersecting(FanoutAudience audience, Long audienceId, long[] userIds);
+
+    /**
+     * 获取会议中已通过审核的参会者
+     *
+     * @param meetingId 会议ID
+     * @return 按ID升序排列的参会用户ID快照
+     */
+    long[] approvedParticipants(Long meetingId);
+
+    /**
+     * 用户被创建、删除、移出公司或状态变化后调用，从数据库重新加载该用户的受众归属
+     *
+     * @param userId 用户ID
+     */
+    void onUserChanged(Long userId);
+
+    /**
+     * 会议的参会申请被审核或取消后调用，丢弃该会议缓存的参会者列表
+     *
+     * @param meetingId 会议ID
+     */
+    void onParticipantsChanged(Long meetingId);
+
+    /**
+     * 从数据库全量重建受众索引，纠正遗漏的增量更新
+     */
+    void rebuild();
+
+    /**
+     * 获取索引规模与构建耗时
+     *
+     * @return 指标快照
+     */
+    AudienceIndexMetricsResponse getMetrics();
+}
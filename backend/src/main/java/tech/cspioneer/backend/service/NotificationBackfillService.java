@@ -0,0 +1,18 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.BackfillStatusResponse;
+
+public interface NotificationBackfillService {
+
+    /**
+     * 按ID区间分批为历史通知回填关联对象UUID，全部扫描完成后不再执行
+     */
+    void backfillRelatedObjectUuids();
+
+    /**
+     * 获取回填进度
+     *
+     * @return 进度快照
+     */
+    BackfillStatusResponse getStatus();
+}
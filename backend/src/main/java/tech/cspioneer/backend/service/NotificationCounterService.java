@@ -0,0 +1,68 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.User;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+
+import java.util.Collection;
+
+public interface NotificationCounterService {
+
+    /**
+     * 获取用户的通知数量，优先读取 Redis 计数，Redis 不可用或计数失效时回源 MySQL
+     *
+     * @param user   用户
+     * @param isRead 读取状态 (true: 已读, false: 未读, null: 全部)
+     * @return 通知数量
+     */
+    long count(User user, Boolean isRead);
+
+    /**
+     * 定向通知已分发给接收人（事务提交后生效）
+     *
+     * @param recipientIds 接收用户ID列表
+     */
+    void onDelivered(Collection<Long> recipientIds);
+
+    /**
+     * 发送了一条广播通知，使受众范围内所有用户的计数失效
+     *
+     * @param audience   广播范围
+     * @param audienceId 广播范围ID
+     */
+    void onBroadcast(FanoutAudience audience, Long audienceId);
+
+    /**
+     * 若干条未读通知变为已读
+     *
+     * @param recipientId 接收用户ID
+     * @param count       由未读变为已读的通知数量
+     */
+    void onRead(Long recipientId, int count);
+
+    /**
+     * 用户的所有通知均已标记为已读
+     *
+     * @param recipientId 接收用户ID
+     */
+    void onAllRead(Long recipientId);
+
+    /**
+     * 一条通知被用户删除
+     *
+     * @param recipientId 接收用户ID
+     * @param wasUnread   删除前是否未读
+     */
+    void onDeleted(Long recipientId, boolean wasUnread);
+
+    /**
+     * 丢弃用户的计数，下次读取时回源 MySQL
+     *
+     * @param recipientId 接收用户ID
+     */
+    void invalidate(Long recipientId);
+
+    /**
+     * 与 MySQL 对账，修正 Redis 中的计数漂移；每次处理一批，从上次中断的扫描位置继续
+     */
+    void reconcile();
+}
@@ -0,0 +1,43 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+
+import java.util.List;
+
+public interface NotificationDeliveryService {
+
+    /**
+     * 创建通知并为每个接收人写入一行接收记录
+     *
+     * @param notificationUuid 通知UUID (由调用方生成，重复投递时用于去重)
+     * @param recipientIds     接收用户ID列表
+     * @param title            标题
+     * @param content          内容
+     * @param objectType       关联对象类型
+     * @param objectId         关联对象ID
+     */
+    void deliverToRecipients(String notificationUuid, List<Long> recipientIds, String title, String content, RelatedObjectType objectType, Long objectId);
+
+    /**
+     * 向公司所有员工投递通知（广播模式只写一行，否则走分发引擎）
+     *
+     * @param notificationUuid 通知UUID
+     * @param companyId        公司ID
+     * @param title            标题
+     * @param content          内容
+     * @param objectType       关联对象类型
+     * @param objectId         关联对象ID
+     */
+    void deliverToCompany(String notificationUuid, Long companyId, String title, String content, RelatedObjectType objectType, Long objectId);
+
+    /**
+     * 向所有用户投递通知（广播模式只写一行，否则走分发引擎）
+     *
+     * @param notificationUuid 通知UUID
+     * @param title            标题
+     * @param content          内容
+     * @param objectType       关联对象类型
+     * @param objectId         关联对象ID
+     */
+    void deliverToAll(String notificationUuid, String title, String content, RelatedObjectType objectType, Long objectId);
+}
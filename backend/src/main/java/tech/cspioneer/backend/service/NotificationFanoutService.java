@@ -0,0 +1,29 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.Notification;
+import tech.cspioneer.backend.entity.dto.response.FanoutMetricsResponse;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+
+public interface NotificationFanoutService {
+
+    /**
+     * 创建通知并以流式、分批提交的方式分发给指定范围内的所有活跃用户
+     *
+     * @param notification 通知主体 (尚未持久化)
+     * @param audience     分发范围
+     * @param audienceId   分发范围ID (COMPANY 时为公司ID, ALL 时为 null)
+     */
+    void fanOut(Notification notification, FanoutAudience audience, Long audienceId);
+
+    /**
+     * 从断点继续执行停滞的分发任务
+     */
+    void resumeStalledJobs();
+
+    /**
+     * 获取分发吞吐与延迟指标
+     *
+     * @return 指标快照
+     */
+    FanoutMetricsResponse getMetrics();
+}
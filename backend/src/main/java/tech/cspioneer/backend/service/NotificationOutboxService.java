@@ -0,0 +1,32 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.OutboxMetricsResponse;
+import tech.cspioneer.backend.entity.enums.OutboxTargetType;
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+
+public interface NotificationOutboxService {
+
+    /**
+     * 在当前事务中写入一条待分发的通知事件
+     *
+     * @param targetType 分发目标类型
+     * @param targetId   分发目标ID (公司ID / 会议ID, ALL 时为 null)
+     * @param title      标题
+     * @param content    内容
+     * @param objectType 关联对象类型
+     * @param objectId   关联对象ID
+     */
+    void enqueue(OutboxTargetType targetType, Long targetId, String title, String content, RelatedObjectType objectType, Long objectId);
+
+    /**
+     * 认领并分发一批到期的事件
+     */
+    void dispatchPending();
+
+    /**
+     * 获取队列深度与分发延迟指标
+     *
+     * @return 指标快照
+     */
+    OutboxMetricsResponse getMetrics();
+}
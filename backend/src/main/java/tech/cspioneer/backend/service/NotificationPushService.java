@@ -0,0 +1,41 @@
+package tech.cspioneer.backend.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tech.cspioneer.backend.entity.Notification;
+import tech.cspioneer.backend.entity.User;
+import tech.cspioneer.backend.entity.dto.response.PushMetricsResponse;
+
+import java.util.Collection;
+
+public interface NotificationPushService {
+
+    /**
+     * 为用户在本节点注册一个 SSE 连接
+     *
+     * @param user 用户
+     * @return SSE 连接
+     */
+    SseEmitter subscribe(User user);
+
+    /**
+     * 向指定接收人推送新通知（事务提交后经 Redis 频道转发到所有节点）
+     *
+     * @param recipientIds 接收用户ID列表
+     * @param notification 通知
+     */
+    void publishToRecipients(Collection<Long> recipientIds, Notification notification);
+
+    /**
+     * 推送广播通知，按通知的受众范围投递给所有节点上的连接
+     *
+     * @param notification 带受众范围的通知
+     */
+    void publishBroadcast(Notification notification);
+
+    /**
+     * 获取本节点的推送指标
+     *
+     * @return 指标快照
+     */
+    PushMetricsResponse getMetrics();
+}
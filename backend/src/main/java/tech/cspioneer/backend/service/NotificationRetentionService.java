@@ -0,0 +1,18 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.RetentionStatusResponse;
+
+public interface NotificationRetentionService {
+
+    /**
+     * 将超过保留期的定向通知接收人行分批移入归档表
+     */
+    void archiveExpired();
+
+    /**
+     * 获取归档任务的执行情况
+     *
+     * @return 状态快照
+     */
+    RetentionStatusResponse getStatus();
+}
@@ -1,6 +1,7 @@
 package tech.cspioneer.backend.service;
 
 import org.springframework.data.domain.Page;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import tech.cspioneer.backend.entity.dto.response.NotificationResponse;
 import tech.cspioneer.backend.entity.enums.RelatedObjectType;
 
@@ -15,9 +16,26 @@ public interface NotificationService {
      * @param status   状态 ("all", "read", "unread")
      * @param page     页码 (从0开始)
      * @param size     每页数量
+     * @param includeArchived 是否同时查询已归档的历史通知
      * @return 分页后的通知列表
      */
-    Page<NotificationResponse> getNotificationsByUserUuid(String userUuid, String status, int page, int size);
+    Page<NotificationResponse> getNotificationsByUserUuid(String userUuid, String status, int page, int size, boolean includeArchived);
+
+    /**
+     * 订阅当前用户的实时通知推送 (SSE)
+     *
+     * @param userUuid 用户UUID
+     * @return SSE 连接
+     */
+    SseEmitter subscribe(String userUuid);
+
+    /**
+     * 获取用户的未读通知数量
+     *
+     * @param userUuid 用户UUID
+     * @return 未读数量
+     */
+    long getUnreadCount(String userUuid);
 
     /**
      * 获取单条通知详情
@@ -37,12 +55,13 @@ public interface NotificationService {
     void markNotificationAsRead(String notificationUuid, String userUuid);
 
     /**
-     * 批量将通知标记为已读
+     * 批量将通知标记为已读，不存在或无权访问的UUID会被忽略
      *
      * @param notificationUuids 通知的UUID列表
      * @param userUuid          用户UUID
+     * @return 由未读变为已读的通知数量
      */
-    void markNotificationsAsRead(List<String> notificationUuids, String userUuid);
+    int markNotificationsAsRead(List<String> notificationUuids, String userUuid);
 
     /**
      * 将所有未读通知标记为已读
@@ -59,6 +78,15 @@ public interface NotificationService {
      */
     void deleteNotification(String notificationUuid, String userUuid);
 
+    /**
+     * 批量删除（软删除）通知，不存在或无权访问的UUID会被忽略
+     *
+     * @param notificationUuids 通知的UUID列表
+     * @param userUuid          用户UUID
+     * @return 本次被删除的通知数量
+     */
+    int deleteNotifications(List<String> notificationUuids, String userUuid);
+
     // --- Internal System-Facing Methods ---
 
     /**
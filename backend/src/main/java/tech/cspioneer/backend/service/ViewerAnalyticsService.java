@@ -0,0 +1,31 @@
+package tech.cspioneer.backend.service;
+
+import tech.cspioneer.backend.entity.dto.response.UniqueViewersResponse;
+import tech.cspioneer.backend.entity.enums.ViewerItemType;
+
+public interface ViewerAnalyticsService {
+
+    /**
+     * 记录一次浏览。只写入内存缓冲，由定时任务批量写入 Redis HyperLogLog
+     *
+     * @param itemType 对象类型
+     * @param itemUuid 新闻或课程UUID
+     * @param viewerUuid 浏览者UUID
+     */
+    void recordView(ViewerItemType itemType, String itemUuid, String viewerUuid);
+
+    /**
+     * 将缓冲中的浏览记录写入按对象和日期划分的 HyperLogLog
+     */
+    void flush();
+
+    /**
+     * 查询最近若干天的独立访客数及每日明细
+     *
+     * @param itemType 对象类型
+     * @param itemUuid 新闻或课程UUID
+     * @param days 天数（含今天），超过保留天数时按保留天数计算
+     * @return 近似独立访客数
+     */
+    UniqueViewersResponse getUniqueViewers(ViewerItemType itemType, String itemUuid, int days);
+}
@@ -10,6 +10,7 @@ import tech.cspioneer.backend.exception.ResourceNotFoundException;
 import tech.cspioneer.backend.exception.UserManagementException;
 import tech.cspioneer.backend.mapper.UserMapper;
 import tech.cspioneer.backend.model.response.PagedResponse;
+import tech.cspioneer.backend.service.NotificationAudienceService;
 import tech.cspioneer.backend.service.AdminUserManagementService;
 
 import java.time.LocalDateTime;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class AdminUserManagementServiceImpl implements AdminUserManagementService {
 
     private final UserMapper userMapper;
+    private final NotificationAudienceService notificationAudienceService;
 
     @Override
     public PagedResponse<UserResponse> getAllUsers(int page, int size) {
@@ -69,6 +71,7 @@ public class AdminUserManagementServiceImpl implements AdminUserManagementServic
         user.setUpdatedAt(LocalDateTime.now());
         
         userMapper.insert(user);
+        notificationAudienceService.onUserChanged(user.getId());
         return convertToUserResponse(user);
     }
 
@@ -90,7 +93,8 @@ public class AdminUserManagementServiceImpl implements AdminUserManagementServic
         user.setDescription(userUpdateRequest.getDescription());
         user.setUpdatedAt(LocalDateTime.now());
 
-        userMapper.update(user); 
+        userMapper.update(user);
+        notificationAudienceService.onUserChanged(user.getId());
         
         return convertToUserResponse(user);
     }
@@ -102,6 +106,7 @@ public class AdminUserManagementServiceImpl implements AdminUserManagementServic
             throw new ResourceNotFoundException("User not found with uuid: " + uuid);
         }
         userMapper.deleteByUuid(uuid);
+        notificationAudienceService.onUserChanged(user.getId());
     }
 
     private UserResponse convertToUserResponse(User user) {
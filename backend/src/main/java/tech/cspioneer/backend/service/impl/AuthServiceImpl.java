@@ -19,6 +19,7 @@ import tech.cspioneer.backend.entity.enums.UserStatus;
 import tech.cspioneer.backend.exception.VerificationCodeException;
 import tech.cspioneer.backend.mapper.CompanyMapper;
 import tech.cspioneer.backend.mapper.UserMapper;
+import tech.cspioneer.backend.service.NotificationAudienceService;
 import tech.cspioneer.backend.service.AuthService;
 import tech.cspioneer.backend.utils.CodeGeneratorUtil;
 import tech.cspioneer.backend.utils.JwtUtils;
@@ -40,6 +41,7 @@ public class AuthServiceImpl implements AuthService {
     private final CompanyMapper companyMapper;
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final NotificationAudienceService notificationAudienceService;
 
     private static final String VERIFICATION_CODE_KEY_PREFIX = "verify:code:";
     private static final String REFRESH_TOKEN_USER_KEY_PREFIX = "refreshtoken:user:";
@@ -260,6 +262,7 @@ public class AuthServiceImpl implements AuthService {
                 throw new VerificationCodeException("Failed to register user. Please try again.");
             }
             log.info("Successfully registered new individual user: {}, id: {}", email, newUser.getId());
+            notificationAudienceService.onUserChanged(newUser.getId());
             
             // 6. 注册成功后，可以删除Redis中的验证状态，因为不再需要了
             // 或者保留它，作为"最近验证过的邮箱"的标记
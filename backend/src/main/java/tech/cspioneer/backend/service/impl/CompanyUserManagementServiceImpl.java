@@ -15,6 +15,7 @@ import tech.cspioneer.backend.mapper.CompanyUserSearchMapper;
 import tech.cspioneer.backend.mapper.UserDetailMapper;
 import tech.cspioneer.backend.mapper.UserMapper;
 import tech.cspioneer.backend.model.response.PagedResponse;
+import tech.cspioneer.backend.service.NotificationAudienceService;
 import tech.cspioneer.backend.service.CompanyUserManagementService;
 
 import java.time.LocalDateTime;
@@ -30,6 +31,7 @@ public class CompanyUserManagementServiceImpl implements CompanyUserManagementSe
     private final CompanyMapper companyMapper;
     private final CompanyUserSearchMapper companyUserSearchMapper;
     private final UserDetailMapper userDetailMapper;
+    private final NotificationAudienceService notificationAudienceService;
 
     @Override
     public PagedResponse<UserResponse> getCompanyUsers(int page, int size, String uuid, String username, String status, String phoneNumber, String currentUserUuid) {
@@ -74,6 +76,7 @@ public class CompanyUserManagementServiceImpl implements CompanyUserManagementSe
         user.setUpdatedAt(LocalDateTime.now());
 
         userMapper.insert(user);
+        notificationAudienceService.onUserChanged(user.getId());
         return convertToUserResponse(user);
     }
 
@@ -93,6 +96,7 @@ public class CompanyUserManagementServiceImpl implements CompanyUserManagementSe
         user.setUpdatedAt(LocalDateTime.now());
 
         userMapper.update(user);
+        notificationAudienceService.onUserChanged(user.getId());
         return convertToUserResponse(user);
     }
 
@@ -100,12 +104,14 @@ public class CompanyUserManagementServiceImpl implements CompanyUserManagementSe
     public void deleteCompanyUser(String uuid, String currentUserUuid) {
         User user = findUserAndCheckPermission(uuid, currentUserUuid);
         userMapper.deleteByUuid(uuid);
+        notificationAudienceService.onUserChanged(user.getId());
     }
 
     @Override
     public void removeUserFromCompany(String uuid, String currentUserUuid) {
         User user = findUserAndCheckPermission(uuid, currentUserUuid);
         userMapper.removeUserFromCompany(uuid);
+        notificationAudienceService.onUserChanged(user.getId());
     }
 
     private User findUserAndCheckPermission(String userUuid, String currentUserUuid) {
@@ -0,0 +1,94 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.cspioneer.backend.entity.dto.response.LessonArchiveStatusResponse;
+import tech.cspioneer.backend.mapper.LessonArchiveMapper;
+import tech.cspioneer.backend.service.LessonArchiveService;
+import tech.cspioneer.backend.utils.ThrottledBatchRunner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 课程版本归档。
+ * 版本被替代时只在热表中标记为 archived 并记录 archived_at，其资源同时置为 inactive；
+ * 归档超过 min-age-days 的版本连同资源由 ThrottledBatchRunner 按批次复制到
+ * lesson_version_archive / lesson_resources_archive 并从热表删除；归档行保留原ID，审核历史无需改写。
+ */
+@Service
+@RequiredArgsConstructor
+public class LessonArchiveServiceImpl implements LessonArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonArchiveServiceImpl.class);
+
+    private final LessonArchiveMapper lessonArchiveMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment environment;
+
+    @Value("${lesson.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    private ThrottledBatchRunner runner;
+    private volatile long resourcesArchived;
+
+    @PostConstruct
+    public void init() {
+        runner = new ThrottledBatchRunner(environment, "lesson.archive", 200, 100);
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(cron = "${lesson.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        long archived = runner.run(batchSize -> archiveBatch(cutoff, batchSize));
+        if (archived > 0) {
+            log.info("Moved {} archived lesson versions older than {} to history tables", archived, cutoff);
+        }
+    }
+
+    @Override
+    public LessonArchiveStatusResponse getStatus() {
+        LessonArchiveStatusResponse response = new LessonArchiveStatusResponse();
+        response.setMinAgeDays(minAgeDays);
+        response.setArchivedVersionsTotal(lessonArchiveMapper.countArchivedVersions());
+        response.setArchivedResourcesTotal(lessonArchiveMapper.countArchivedResources());
+        response.setVersionsArchived(runner.getRowsMoved());
+        response.setResourcesArchived(resourcesArchived);
+        response.setBatchesRun(runner.getBatchesRun());
+        response.setLastRunAt(runner.getLastRunAt());
+        response.setLastRunArchived(runner.getLastRunMoved());
+        response.setLastRunDurationMs(runner.getLastRunDurationMs());
+        return response;
+    }
+
+    // --- Private Helper Methods ---
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        int[] moved = transactionTemplate.execute(status -> {
+            List<Long> ids = lessonArchiveMapper.findArchivableVersionIds(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return new int[]{0, 0};
+            }
+            lessonArchiveMapper.copyResourcesToArchive(ids);
+            lessonArchiveMapper.copyVersionsToArchive(ids);
+            int resources = lessonArchiveMapper.deleteResources(ids);
+            int versions = lessonArchiveMapper.deleteVersions(ids);
+            return new int[]{versions, resources};
+        });
+        if (moved == null) {
+            return 0;
+        }
+        resourcesArchived += moved[1];
+        return moved[0];
+    }
+}
@@ -0,0 +1,113 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.mapper.LessonMapper;
+import tech.cspioneer.backend.service.LessonCountService;
+import tech.cspioneer.backend.utils.RedisUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 课程列表/搜索的总数。
+ * 1. 没有模糊筛选时只扫描 lesson 表，直接精确计数；
+ * 2. 有模糊筛选时，当前页未满即可推算出精确总数（offset + 本页行数），不再计数；
+ * 3. 否则读取 Redis 中按筛选条件哈希缓存的计数（短 TTL，标记为非精确），
+ *    缓存缺失时最多数到 max-exact + 1 行，超过上限时返回上限并标记为非精确。
+ */
+@Service
+@RequiredArgsConstructor
+public class LessonCountServiceImpl implements LessonCountService {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonCountServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String LIST_KEY_PREFIX = "lesson:count:list:";
+    private static final String SEARCH_KEY_PREFIX = "lesson:count:search:";
+
+    private final LessonMapper lessonMapper;
+
+    @Value("${lesson.count.cache-ttl-seconds:60}")
+    private int cacheTtlSeconds;
+
+    @Value("${lesson.count.max-exact:10000}")
+    private int maxExact;
+
+    @Override
+    public Count countLessons(String name, String authorName, String beginTime, String endTime,
+                              int offset, int pageRows, int pageSize) {
+        if (!StringUtils.hasLength(name) && !StringUtils.hasLength(authorName)) {
+            return new Count(lessonMapper.countLessonsWithCurrentVersion(null, null, beginTime, endTime, null), true);
+        }
+        String key = LIST_KEY_PREFIX + filterHash(name, authorName, beginTime, endTime);
+        return likeCount(key, offset, pageRows, pageSize,
+                limit -> lessonMapper.countLessonsWithCurrentVersion(name, authorName, beginTime, endTime, (int) limit));
+    }
+
+    @Override
+    public Count countSearch(String keyword, int offset, int pageRows, int pageSize) {
+        if (!StringUtils.hasLength(keyword)) {
+            return new Count(lessonMapper.countSearchLessons(null, null), true);
+        }
+        String key = SEARCH_KEY_PREFIX + filterHash(keyword);
+        return likeCount(key, offset, pageRows, pageSize,
+                limit -> lessonMapper.countSearchLessons(keyword, (int) limit));
+    }
+
+    // --- Private Helper Methods ---
+
+    private Count likeCount(String key, int offset, int pageRows, int pageSize, LongUnaryOperator boundedCount) {
+        long start = Math.max(offset, 0);
+        // 当前页未满：后面没有更多行，总数就是 offset + 本页行数
+        if (pageRows < pageSize && (pageRows > 0 || start == 0)) {
+            long total = start + pageRows;
+            putCached(key, total);
+            return new Count(total, true);
+        }
+        Long cached = getCached(key);
+        if (cached != null) {
+            // 缓存可能落后于最新数据，用当前页修正到可能的范围内
+            long total = pageRows > 0 ? Math.max(cached, start + pageRows) : Math.min(cached, start);
+            return new Count(total, false);
+        }
+        long counted = boundedCount.applyAsLong(maxExact + 1L);
+        boolean exact = counted <= maxExact;
+        long total = exact ? counted : Math.max(maxExact, start + pageRows);
+        putCached(key, total);
+        return new Count(total, exact);
+    }
+
+    private Long getCached(String key) {
+        try {
+            String value = RedisUtils.get(key, REDIS_DB);
+            return value == null ? null : Long.valueOf(value);
+        } catch (JedisException e) {
+            log.warn("Lesson count cache unavailable, counting from database", e);
+            return null;
+        }
+    }
+
+    private void putCached(String key, long total) {
+        try {
+            RedisUtils.set(key, String.valueOf(total), cacheTtlSeconds, REDIS_DB);
+        } catch (JedisException e) {
+            log.warn("Failed to cache lesson count for {}", key, e);
+        }
+    }
+
+    private static String filterHash(String... filters) {
+        StringBuilder builder = new StringBuilder();
+        for (String filter : filters) {
+            // 用分隔符拼接并区分 null 与空串，避免不同筛选条件拼接后相同
+            builder.append(filter == null ? "\u0001" : filter).append('\u0000');
+        }
+        return DigestUtils.md5DigestAsHex(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
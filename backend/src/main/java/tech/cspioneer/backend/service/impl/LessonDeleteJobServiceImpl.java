@@ -0,0 +1,142 @@
+package tech.cspioneer.backend.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import tech.cspioneer.backend.entity.dto.response.LessonDeleteJobResponse;
+import tech.cspioneer.backend.exception.LessonServiceException;
+import tech.cspioneer.backend.service.LessonDeleteJobService;
+import tech.cspioneer.backend.service.LessonService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 大批量课程删除的后台任务。
+ * UUID 去重后按 chunk-size 分片，每片调用一次 LessonService.deleteLesson（一条 IN 查询 + 一条联表 UPDATE，单独事务），
+ * 分片之间暂停以免长时间占用行锁；进度保存在本节点内存中，任务结束 retention-minutes 后清除。
+ */
+@Service
+public class LessonDeleteJobServiceImpl implements LessonDeleteJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonDeleteJobServiceImpl.class);
+
+    private final LessonService lessonService;
+    private final Executor taskExecutor;
+
+    @Value("${lesson.bulk-delete.sync-max-size:500}")
+    private int syncMaxSize;
+
+    @Value("${lesson.bulk-delete.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${lesson.bulk-delete.pause-ms:100}")
+    private long pauseMs;
+
+    @Value("${lesson.bulk-delete.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final ConcurrentHashMap<String, DeleteJob> jobs = new ConcurrentHashMap<>();
+
+    public LessonDeleteJobServiceImpl(LessonService lessonService,
+                                      @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.lessonService = lessonService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public boolean shouldRunInBackground(int size) {
+        return size > syncMaxSize;
+    }
+
+    @Override
+    public LessonDeleteJobResponse submit(List<String> uuids) {
+        purgeFinishedJobs();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(uuids));
+        DeleteJob job = new DeleteJob(UUID.randomUUID().toString(), distinct.size());
+        jobs.put(job.jobId, job);
+        try {
+            taskExecutor.execute(() -> run(job, distinct));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.jobId);
+            throw new LessonServiceException("删除任务过多，请稍后重试");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public LessonDeleteJobResponse getJob(String jobId) {
+        DeleteJob job = jobs.get(jobId);
+        return job == null ? null : job.toResponse();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void run(DeleteJob job, List<String> uuids) {
+        try {
+            for (int from = 0; from < uuids.size(); from += chunkSize) {
+                List<String> chunk = uuids.subList(from, Math.min(from + chunkSize, uuids.size()));
+                job.deleted += lessonService.deleteLesson(chunk);
+                job.processed += chunk.size();
+                if (job.processed < job.total) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            job.status = "COMPLETED";
+            log.info("Lesson delete job {} finished: {} of {} lessons deleted", job.jobId, job.deleted, job.total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.error = "任务被中断";
+            job.status = "FAILED";
+        } catch (Exception e) {
+            // 已提交的分片不会回滚，可用剩余UUID重新提交
+            log.warn("Lesson delete job {} failed after {} of {} uuids", job.jobId, job.processed, job.total, e);
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime expiry = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(expiry));
+    }
+
+    private static final class DeleteJob {
+        private final String jobId;
+        private final int total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String status = "RUNNING";
+        private volatile int processed;
+        private volatile int deleted;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        DeleteJob(String jobId, int total) {
+            this.jobId = jobId;
+            this.total = total;
+        }
+
+        LessonDeleteJobResponse toResponse() {
+            LessonDeleteJobResponse response = new LessonDeleteJobResponse();
+            response.setJobId(jobId);
+            response.setStatus(status);
+            response.setTotal(total);
+            response.setProcessed(processed);
+            response.setDeleted(deleted);
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            response.setError(error);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tech.cspioneer.backend.entity.LessonResources;
+import tech.cspioneer.backend.mapper.LessonResourceMapper;
+import tech.cspioneer.backend.service.LessonResourceCacheService;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 课程版本资源列表的本地缓存。
+ * 版本生效后其资源不再修改（更新课程会生成新版本），因此按版本ID缓存且没有 TTL；
+ * 缓存按资源总条数限制大小，超出时淘汰最久未访问的版本。资源过多的版本不缓存，由调用方在数据库分页。
+ */
+@Service
+@RequiredArgsConstructor
+public class LessonResourceCacheServiceImpl implements LessonResourceCacheService {
+
+    private final LessonResourceMapper lessonResourceMapper;
+
+    @Value("${lesson.resource-cache.max-resources:200000}")
+    private long maxResources;
+
+    @Value("${lesson.resource-cache.max-resources-per-version:5000}")
+    private int maxResourcesPerVersion;
+
+    private final LinkedHashMap<Long, List<LessonResources>> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedResources;
+
+    @Override
+    public List<LessonResources> getResources(Long lessonVersionId) {
+        List<LessonResources> cached = getCached(lessonVersionId);
+        if (cached != null) {
+            return cached;
+        }
+        if (lessonResourceMapper.countByLessonVersionId(lessonVersionId) > maxResourcesPerVersion) {
+            return null;
+        }
+        List<LessonResources> resources = List.copyOf(lessonResourceMapper.selectOrderedByLessonVersionId(lessonVersionId));
+        putCached(lessonVersionId, resources);
+        return resources;
+    }
+
+    @Override
+    public synchronized void evict(List<Long> lessonVersionIds) {
+        for (Long lessonVersionId : lessonVersionIds) {
+            List<LessonResources> removed = cache.remove(lessonVersionId);
+            if (removed != null) {
+                cachedResources -= weight(removed);
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private synchronized List<LessonResources> getCached(Long lessonVersionId) {
+        return cache.get(lessonVersionId);
+    }
+
+    private synchronized void putCached(Long lessonVersionId, List<LessonResources> resources) {
+        List<LessonResources> previous = cache.put(lessonVersionId, resources);
+        if (previous != null) {
+            cachedResources -= weight(previous);
+        }
+        cachedResources += weight(resources);
+        Iterator<Map.Entry<Long, List<LessonResources>>> eldest = cache.entrySet().iterator();
+        while (cachedResources > maxResources && eldest.hasNext()) {
+            cachedResources -= weight(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+
+    // 空资源列表也占一个单位，避免大量空版本不受限制
+    private static long weight(List<LessonResources> resources) {
+        return resources.size() + 1L;
+    }
+}
@@ -6,12 +6,16 @@ import org.springframework.transaction.annotation.Transactional;
 import tech.cspioneer.backend.entity.*;
 import tech.cspioneer.backend.entity.dto.response.*;
 import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+import tech.cspioneer.backend.entity.enums.ViewerItemType;
 import tech.cspioneer.backend.mapper.*;
+import tech.cspioneer.backend.service.LessonCountService;
+import tech.cspioneer.backend.service.LessonResourceCacheService;
 import tech.cspioneer.backend.service.LessonService;
 import tech.cspioneer.backend.exception.LessonServiceException;
 import tech.cspioneer.backend.entity.dto.request.LessonDetailRequest;
 import tech.cspioneer.backend.entity.dto.request.LessonSearchRequest;
 import tech.cspioneer.backend.service.NotificationService;
+import tech.cspioneer.backend.service.ViewerAnalyticsService;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -21,6 +25,8 @@ import org.slf4j.LoggerFactory;
 @Service
 public class LessonServiceImpl implements LessonService {
     private static final Logger logger = LoggerFactory.getLogger(LessonServiceImpl.class);
+    // 单条多行 INSERT 的最大资源数，控制语句大小（max_allowed_packet）
+    private static final int RESOURCE_INSERT_BATCH_SIZE = 500;
 
     @Autowired
     private LessonMapper lessonMapper;
@@ -36,6 +42,12 @@ public class LessonServiceImpl implements LessonService {
     private NotificationService notificationService;
     @Autowired
     private LessonAuditHistoryMapper lessonAuditHistoryMapper;
+    @Autowired
+    private ViewerAnalyticsService viewerAnalyticsService;
+    @Autowired
+    private LessonResourceCacheService lessonResourceCacheService;
+    @Autowired
+    private LessonCountService lessonCountService;
 
     @Override
     @Transactional
@@ -100,13 +112,13 @@ public class LessonServiceImpl implements LessonService {
                 lesson.setStatus("pending_review");
                 lesson.setCurrentVersionId(null);
                 lesson.setPendingVersionId(0L);
+                // insert 通过自增主键回填 id，无需再按 uuid 回查
                 lessonMapper.insert(lesson);
-                Lesson newLesson = lessonMapper.selectByUuid(lesson.getUuid());
-                version.setLessonId(newLesson.getId());
+                version.setLessonId(lesson.getId());
                 version.setCreatorId(company.getId());
                 version.setStatus("pending_review");
                 lessonVersionMapper.insert(version);
-                lesson.setPendingVersionId(lessonVersionMapper.selectByUuid(version.getUuid()).getId());
+                lesson.setPendingVersionId(version.getId());
                 lessonMapper.update(lesson);
             } else if ("ADMIN".equals(identity)) {
                 User user = userMapper.findByUuid(uuid);
@@ -115,12 +127,11 @@ public class LessonServiceImpl implements LessonService {
                 lesson.setCurrentVersionId(0L);
                 lesson.setPendingVersionId(null);
                 lessonMapper.insert(lesson);
-                Lesson newLesson = lessonMapper.selectByUuid(lesson.getUuid());
-                version.setLessonId(newLesson.getId());
+                version.setLessonId(lesson.getId());
                 version.setCreatorId(user.getId());
                 version.setStatus("active");
                 lessonVersionMapper.insert(version);
-                lesson.setCurrentVersionId(lessonVersionMapper.selectByUuid(version.getUuid()).getId());
+                lesson.setCurrentVersionId(version.getId());
                 lessonMapper.update(lesson);
                 user.setLessonCount(user.getLessonCount() + 1);
                 userMapper.update(user);
@@ -129,30 +140,7 @@ public class LessonServiceImpl implements LessonService {
             }
 
             // 3. 处理资源 - 使用新的数据结构
-            if (resourcesUrls != null && !resourcesUrls.isEmpty()) {
-                for (int i = 0; i < resourcesUrls.size(); i++) {
-                    LessonResources resource = new LessonResources();
-                    resource.setUuid(UUID.randomUUID().toString());
-                    resource.setLessonVersionId(version.getId());
-                    resource.setResourcesUrl(resourcesUrls.get(i));
-                    if (resourceNames != null && i < resourceNames.size() && resourceNames.get(i) != null) {
-                        resource.setName(resourceNames.get(i));
-                    } else {
-                        resource.setName("默认资源名称"); // 或者其他默认值
-                    }
-                    resource.setResourcesType(resourcesType != null ? resourcesType : "other");
-                    if (sortOrders != null && i < sortOrders.size() && sortOrders.get(i) != null) {
-                        resource.setSortOrder(sortOrders.get(i));
-                    } else {
-                        resource.setSortOrder(0);
-                    }
-                    resource.setStatus("active");
-                    resource.setIsDeleted(0);
-                    resource.setCreatedAt(LocalDateTime.now());
-                    resource.setUpdatedAt(LocalDateTime.now());
-                    lessonResourceMapper.insert(resource);
-                }
-            }
+            insertResources(version.getId(), resourcesUrls, resourceNames, sortOrders, resourcesType);
             return 1;
         } catch (Exception e) {
             throw new LessonServiceException(e.getMessage());
@@ -171,24 +159,11 @@ public class LessonServiceImpl implements LessonService {
         }
         Long lessonId = lesson.getId();
         Long currentVersionId = lesson.getCurrentVersionId();
+        LessonVersion oldVersion = currentVersionId != null ? lessonVersionMapper.selectById(currentVersionId) : null;
 
         // 2. 归档旧版本
-        if (identity.equals("ADMIN")) {
-            if (currentVersionId != null) {
-                LessonVersion oldVersion = lessonVersionMapper.selectById(currentVersionId);
-                if (oldVersion != null) {
-                    oldVersion.setStatus("archived");
-                    lessonVersionMapper.update(oldVersion);
-                    // 归档后将其所有资源设为inactive
-                    List<LessonResources> oldResources = lessonResourceMapper.selectByLessonVersionId(oldVersion.getId());
-                    if (oldResources != null) {
-                        for (LessonResources res : oldResources) {
-                            res.setStatus("inactive");
-                            lessonResourceMapper.update(res);
-                        }
-                    }
-                }
-            }
+        if (identity.equals("ADMIN") && oldVersion != null) {
+            archiveVersion(oldVersion.getId());
         }
 
         // 3. 新建新版本
@@ -196,11 +171,8 @@ public class LessonServiceImpl implements LessonService {
         newVersion.setUuid(UUID.randomUUID().toString());
         newVersion.setLessonId(lessonId);
         int newVersionNum = 1;
-        if (currentVersionId != null) {
-            LessonVersion oldVersion = lessonVersionMapper.selectById(currentVersionId);
-            if (oldVersion != null && oldVersion.getVersion() != null) {
-                newVersionNum = oldVersion.getVersion() + 1;
-            }
+        if (oldVersion != null && oldVersion.getVersion() != null) {
+            newVersionNum = oldVersion.getVersion() + 1;
         }
 
         newVersion.setVersion(newVersionNum);
@@ -257,40 +229,16 @@ public class LessonServiceImpl implements LessonService {
             resourceNames = tmp;
         }
 
-        if (resourcesUrls != null && !resourcesUrls.isEmpty()) {
-            for (int i = 0; i < resourcesUrls.size(); i++) {
-                LessonResources resource = new LessonResources();
-                resource.setUuid(UUID.randomUUID().toString());
-                resource.setLessonVersionId(lessonVersionMapper.selectByUuid(newVersion.getUuid()).getId());
-                resource.setResourcesUrl(resourcesUrls.get(i));
-                if (resourceNames != null && i < resourceNames.size() && resourceNames.get(i) != null) {
-                    resource.setName(resourceNames.get(i));
-                } else {
-                    resource.setName("默认资源名称");
-                }
-                resource.setResourcesType(resourcesType != null ? resourcesType : "other");
-                // sortOrder与资源一一对应
-                if (sortOrders != null && i < sortOrders.size() && sortOrders.get(i) != null) {
-                    resource.setSortOrder(sortOrders.get(i));
-                } else {
-                    resource.setSortOrder(0);
-                }
-                resource.setStatus("active");
-                resource.setIsDeleted(0);
-                resource.setCreatedAt(LocalDateTime.now());
-                resource.setUpdatedAt(LocalDateTime.now());
-                lessonResourceMapper.insert(resource);
-            }
-        }
+        insertResources(newVersion.getId(), resourcesUrls, resourceNames, sortOrders, resourcesType);
 
         // 5. 更新lesson指针
         if (identity.equals("ADMIN")) {
-            lesson.setCurrentVersionId(lessonVersionMapper.selectByUuid(newVersion.getUuid()).getId());
+            lesson.setCurrentVersionId(newVersion.getId());
             lesson.setStatus("active");
             lesson.setUpdatedAt(LocalDateTime.now());
             lessonMapper.update(lesson);
         } else if (identity.equals("COMPANY")) {
-            lesson.setPendingVersionId(lessonVersionMapper.selectByUuid(newVersion.getUuid()).getId());
+            lesson.setPendingVersionId(newVersion.getId());
             lesson.setStatus("pending_review");
             lesson.setUpdatedAt(LocalDateTime.now());
             lessonMapper.update(lesson);
@@ -300,29 +248,22 @@ public class LessonServiceImpl implements LessonService {
     }
 
     @Override
+    @Transactional
     public int deleteLesson(List<String> uuids) {
-        // 1. 查出所有lessonId
-        List<Long> lessonIds = new ArrayList<>();
-        for (String uuid : uuids) {
-            Lesson lesson = lessonMapper.selectByUuid(uuid);
-            if (lesson != null) lessonIds.add(lesson.getId());
-        }
-        if (lessonIds.isEmpty()) return 0;
-        // 2. 软删除lesson
-        lessonMapper.softDeleteLessons(lessonIds);
-        // 3. 查出所有versionId
-        List<LessonVersion> versions = new ArrayList<>();
-        for (Long lessonId : lessonIds) {
-            versions.addAll(lessonVersionMapper.selectAllByLessonId(lessonId));
-        }
-        List<Long> versionIds = new ArrayList<>();
-        for (LessonVersion v : versions) {
-            versionIds.add(v.getId());
+        if (uuids == null || uuids.isEmpty()) return 0;
+        // 1. 一次 IN 查询解析所有未删除的课程
+        List<Lesson> lessons = lessonMapper.selectByUuids(uuids);
+        if (lessons.isEmpty()) return 0;
+        List<Long> lessonIds = new ArrayList<>(lessons.size());
+        List<Long> currentVersionIds = new ArrayList<>();
+        for (Lesson lesson : lessons) {
+            lessonIds.add(lesson.getId());
+            if (lesson.getCurrentVersionId() != null) currentVersionIds.add(lesson.getCurrentVersionId());
         }
-        // 4. 软删除version
-        if (!lessonIds.isEmpty()) lessonVersionMapper.softDeleteVersionsByLessonIds(lessonIds);
-        // 5. 软删除resource
-        if (!versionIds.isEmpty()) lessonResourceMapper.softDeleteResourcesByVersionIds(versionIds);
+        // 2. 联表软删除lesson、version与resource
+        lessonMapper.softDeleteLessonsCascade(lessonIds);
+        // 3. 资源缓存只保存已生效版本
+        lessonResourceCacheService.evict(currentVersionIds);
         return lessonIds.size();
     }
 
@@ -332,8 +273,10 @@ public class LessonServiceImpl implements LessonService {
         List<Map<String, Object>> rawList = lessonMapper.selectLessonWithCurrentVersion(name, authorName, beginTime, endTime, size, offset);
         List<LessonListItemResponse> resultList = new ArrayList<>();
         rawTravel(rawList, resultList);
+        LessonCountService.Count count = lessonCountService.countLessons(name, authorName, beginTime, endTime, offset, rawList.size(), size);
         LessonListResponse resp = new LessonListResponse();
-        resp.setTotal(resultList.size());
+        resp.setTotal((int) count.total());
+        resp.setTotalExact(count.exact());
         resp.setList(resultList);
         return resp;
     }
@@ -399,14 +342,25 @@ public class LessonServiceImpl implements LessonService {
             resp.setAuthorName(version.getAuthorName());
             resp.setVersion(version.getVersion());
             resp.setVersionDescription(version.getDescription());
-            // 查资源分页，按sort_order排序
-            List<LessonResources> allResources = lessonResourceMapper.selectByLessonVersionId(version.getId());
-            allResources.sort(Comparator.comparingInt(LessonResources::getSortOrder));
-            int total = allResources.size();
+            // 查资源分页，按sort_order排序：已生效版本取缓存的资源列表，其余在数据库按 (lesson_version_id, sort_order) 分页
+            int start = Math.max(offset, 0);
+            int limit = Math.max(sizeNum, 0);
+            List<LessonResources> cached = "active".equals(version.getStatus())
+                    ? lessonResourceCacheService.getResources(version.getId()) : null;
+            int total;
+            List<LessonResources> pageResources;
+            if (cached != null) {
+                total = cached.size();
+                pageResources = cached.subList(Math.min(start, total), Math.min(start + limit, total));
+            } else {
+                total = lessonResourceMapper.countByLessonVersionId(version.getId());
+                pageResources = start < total && limit > 0
+                        ? lessonResourceMapper.selectPageByLessonVersionId(version.getId(), limit, start)
+                        : List.of();
+            }
             resp.setTotal(total);
             List<LessonResourceItemResponse> resourceList = new ArrayList<>();
-            for (int i = offset; i < Math.min(offset + sizeNum, total); i++) {
-                LessonResources res = allResources.get(i);
+            for (LessonResources res : pageResources) {
                 LessonResourceItemResponse dto = new LessonResourceItemResponse();
                 dto.setName(res.getName());
                 dto.setResourcesType(res.getResourcesType());
@@ -414,6 +368,7 @@ public class LessonServiceImpl implements LessonService {
                 resourceList.add(dto);
             }
             resp.setResources(resourceList);
+            viewerAnalyticsService.recordView(ViewerItemType.LESSON, uuid, userUuid);
         }
         return resp;
     }
@@ -446,19 +401,7 @@ public class LessonServiceImpl implements LessonService {
             // 归档原currentVersion
             Long currentVersionId = lesson.getCurrentVersionId();
             if (currentVersionId != null) {
-                LessonVersion oldVersion = lessonVersionMapper.selectById(currentVersionId);
-                if (oldVersion != null) {
-                    oldVersion.setStatus("archived");
-                    lessonVersionMapper.update(oldVersion);
-                    // 归档后将其所有资源设为inactive
-                    List<LessonResources> oldResources = lessonResourceMapper.selectByLessonVersionId(oldVersion.getId());
-                    if (oldResources != null) {
-                        for (LessonResources res : oldResources) {
-                            res.setStatus("inactive");
-                            lessonResourceMapper.update(res);
-                        }
-                    }
-                }
+                archiveVersion(currentVersionId);
             }
             // 更新pendingVersion为active
             pendingVersion.setStatus("active");
@@ -514,8 +457,10 @@ public class LessonServiceImpl implements LessonService {
         List<Map<String, Object>> rawList = lessonMapper.searchLessonWithCurrentVersion(keyword, size, offset);
         List<LessonListItemResponse> resultList = new ArrayList<>();
         rawTravel(rawList, resultList);
+        LessonCountService.Count count = lessonCountService.countSearch(keyword, offset, rawList.size(), size);
         LessonSearchResponse resp = new LessonSearchResponse();
-        resp.setTotal(resultList.size());
+        resp.setTotal((int) count.total());
+        resp.setTotalExact(count.exact());
         resp.setList(resultList);
         return resp;
     }
@@ -583,6 +528,7 @@ public class LessonServiceImpl implements LessonService {
         rawTravel(rawList, resultList);
         LessonListResponse resp = new LessonListResponse();
         resp.setTotal((int) total);
+        resp.setTotalExact(true);
         resp.setList(resultList);
         return resp;
     }
@@ -625,4 +571,50 @@ public class LessonServiceImpl implements LessonService {
                 resourceType.equals("link") ||
                 resourceType.equals("other");
     }
+
+    /**
+     * 归档被替代的版本并将其所有资源设为inactive，各用一条按版本ID定位的 UPDATE，不逐行读取资源
+     */
+    private void archiveVersion(Long versionId) {
+        lessonVersionMapper.archiveById(versionId);
+        lessonResourceMapper.updateStatusByLessonVersionId(versionId, "inactive");
+    }
+
+    /**
+     * 构造某个版本的资源并多行批量插入，上传/更新的往返次数与资源数量无关
+     */
+    private void insertResources(Long lessonVersionId, List<String> resourcesUrls, List<String> resourceNames,
+                                 List<Integer> sortOrders, String resourcesType) {
+        if (resourcesUrls == null || resourcesUrls.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<LessonResources> resources = new ArrayList<>(resourcesUrls.size());
+        for (int i = 0; i < resourcesUrls.size(); i++) {
+            LessonResources resource = new LessonResources();
+            resource.setUuid(UUID.randomUUID().toString());
+            resource.setLessonVersionId(lessonVersionId);
+            resource.setResourcesUrl(resourcesUrls.get(i));
+            if (resourceNames != null && i < resourceNames.size() && resourceNames.get(i) != null) {
+                resource.setName(resourceNames.get(i));
+            } else {
+                resource.setName("默认资源名称");
+            }
+            resource.setResourcesType(resourcesType != null ? resourcesType : "other");
+            // sortOrder与资源一一对应
+            if (sortOrders != null && i < sortOrders.size() && sortOrders.get(i) != null) {
+                resource.setSortOrder(sortOrders.get(i));
+            } else {
+                resource.setSortOrder(0);
+            }
+            resource.setStatus("active");
+            resource.setIsDeleted(0);
+            resource.setCreatedAt(now);
+            resource.setUpdatedAt(now);
+            resources.add(resource);
+        }
+        for (int from = 0; from < resources.size(); from += RESOURCE_INSERT_BATCH_SIZE) {
+            lessonResourceMapper.insertBatch(resources.subList(from, Math.min(from + RESOURCE_INSERT_BATCH_SIZE, resources.size())));
+        }
+    }
 }
@@ -16,6 +16,7 @@ import tech.cspioneer.backend.mapper.CompanyMapper;
 import tech.cspioneer.backend.mapper.MeetingMapper;
 import tech.cspioneer.backend.mapper.MeetingParticipantMapper;
 import tech.cspioneer.backend.mapper.UserMapper;
+import tech.cspioneer.backend.service.NotificationAudienceService;
 import tech.cspioneer.backend.service.MeetingPartService;
 
 import java.time.LocalDateTime;
@@ -35,6 +36,8 @@ public class MeetingPartServiceImpl implements MeetingPartService {
     private MeetingParticipantMapper meetingParticipantMapper;
     @Autowired
     private CompanyMapper companyMapper;
+    @Autowired
+    private NotificationAudienceService notificationAudienceService;
 
     //返回体转化
     private MeetingPartResponse convertToMeetingPartResponse(MeetingParticipant participant) {
@@ -73,6 +76,7 @@ public class MeetingPartServiceImpl implements MeetingPartService {
                 reviewresult.getReviewResult(),
                 reviewresult.getComments()
         );
+        notificationAudienceService.onParticipantsChanged(part.getMeetingId());
 
 
     }
@@ -212,6 +216,7 @@ public class MeetingPartServiceImpl implements MeetingPartService {
         if (updated == 0) {
             throw new RuntimeException("取消失败：记录未更新");
         }
+        notificationAudienceService.onParticipantsChanged(participant.getMeetingId());
     }
 
 }
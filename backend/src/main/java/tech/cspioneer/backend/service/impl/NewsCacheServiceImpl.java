@@ -0,0 +1,176 @@
+package tech.cspioneer.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.entity.News;
+import tech.cspioneer.backend.entity.NewsContent;
+import tech.cspioneer.backend.entity.dto.response.NewsCacheMetricsResponse;
+import tech.cspioneer.backend.entity.dto.response.NewsDetailResponse;
+import tech.cspioneer.backend.mapper.NewsContentMapper;
+import tech.cspioneer.backend.mapper.NewsMapper;
+import tech.cspioneer.backend.service.NewsCacheService;
+import tech.cspioneer.backend.utils.CopyTools;
+import tech.cspioneer.backend.utils.RedisUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 新闻详情两级缓存（本地 LRU + Redis）。
+ * 1. 新闻指针：uuid -> News 行（当前内容ID、公司ID、可见性），会随审核/编辑/删除变化，
+ *    写操作时清除 Redis 与本节点的本地缓存；其他节点的本地副本依靠很短的 TTL 过期。
+ * 2. 新闻内容：content id -> NewsDetailResponse，已发布的 news_content 不再修改，长期缓存无需失效。
+ */
+@Service
+@RequiredArgsConstructor
+public class NewsCacheServiceImpl implements NewsCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsCacheServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String NEWS_KEY_PREFIX = "news:detail:ref:";
+    private static final String CONTENT_KEY_PREFIX = "news:detail:content:";
+
+    private final NewsMapper newsMapper;
+    private final NewsContentMapper newsContentMapper;
+    private final ObjectMapper objectMapper;
+
+    @Value("${news.cache.local-max-entries:2000}")
+    private int localMaxEntries;
+
+    @Value("${news.cache.local-news-ttl-ms:5000}")
+    private long localNewsTtlMs;
+
+    @Value("${news.cache.news-ttl-seconds:300}")
+    private int newsTtlSeconds;
+
+    @Value("${news.cache.content-ttl-seconds:604800}")
+    private int contentTtlSeconds;
+
+    private Map<String, LocalEntry<News>> localNews;
+    private Map<Long, NewsDetailResponse> localContents;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        localNews = Collections.synchronizedMap(lruMap(localMaxEntries));
+        localContents = Collections.synchronizedMap(lruMap(localMaxEntries));
+    }
+
+    @Override
+    public News getNews(String uuid) {
+        LocalEntry<News> local = localNews.get(uuid);
+        if (local != null && local.expiresAt > System.currentTimeMillis()) {
+            localHits.increment();
+            return local.value;
+        }
+        News news = readThrough(NEWS_KEY_PREFIX + uuid, News.class, newsTtlSeconds, () -> newsMapper.findByUuid(uuid));
+        if (news != null) {
+            localNews.put(uuid, new LocalEntry<>(news, System.currentTimeMillis() + localNewsTtlMs));
+        }
+        return news;
+    }
+
+    @Override
+    public NewsDetailResponse getPublishedDetail(News news) {
+        Long contentId = news.getCurrentContentId();
+        if (contentId == null) {
+            return null;
+        }
+        NewsDetailResponse local = localContents.get(contentId);
+        if (local != null) {
+            localHits.increment();
+            return local;
+        }
+        NewsDetailResponse detail = readThrough(CONTENT_KEY_PREFIX + contentId, NewsDetailResponse.class, contentTtlSeconds, () -> {
+            NewsContent newsContent = newsContentMapper.findById(contentId);
+            if (newsContent == null) {
+                return null;
+            }
+            NewsDetailResponse response = CopyTools.copy(newsContent, NewsDetailResponse.class);
+            response.setUuid(news.getUuid());
+            response.setContentCreatedAt(newsContent.getCreatedAt());
+            response.setCompanyId(news.getCompanyId());
+            return response;
+        });
+        if (detail != null) {
+            localContents.put(contentId, detail);
+        }
+        return detail;
+    }
+
+    @Override
+    public void evictNews(String uuid) {
+        localNews.remove(uuid);
+        try {
+            RedisUtils.del(NEWS_KEY_PREFIX + uuid, REDIS_DB);
+        } catch (JedisException e) {
+            log.warn("Failed to evict news {} from Redis, it will expire in {} seconds", uuid, newsTtlSeconds, e);
+        }
+    }
+
+    @Override
+    public NewsCacheMetricsResponse getMetrics() {
+        NewsCacheMetricsResponse metrics = new NewsCacheMetricsResponse();
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        long total = local + redis + miss;
+        metrics.setLocalHits(local);
+        metrics.setRedisHits(redis);
+        metrics.setMisses(miss);
+        metrics.setHitRatio(total == 0 ? 0 : (double) (local + redis) / total);
+        metrics.setLocalNewsEntries(localNews.size());
+        metrics.setLocalContentEntries(localContents.size());
+        return metrics;
+    }
+
+    // --- Private Helper Methods ---
+
+    private <T> T readThrough(String key, Class<T> type, int ttlSeconds, Supplier<T> loader) {
+        try {
+            String cached = RedisUtils.get(key, REDIS_DB);
+            if (cached != null) {
+                redisHits.increment();
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (JedisException | JsonProcessingException e) {
+            log.warn("News cache read failed for {}, loading from database", key, e);
+        }
+        misses.increment();
+        T value = loader.get();
+        if (value != null) {
+            try {
+                RedisUtils.set(key, objectMapper.writeValueAsString(value), ttlSeconds, REDIS_DB);
+            } catch (JedisException | JsonProcessingException e) {
+                log.warn("News cache write failed for {}", key, e);
+            }
+        }
+        return value;
+    }
+
+    private static <K, V> LinkedHashMap<K, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private record LocalEntry<T>(T value, long expiresAt) {
+    }
+}
@@ -0,0 +1,84 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.cspioneer.backend.entity.dto.response.NewsCompactionStatusResponse;
+import tech.cspioneer.backend.mapper.NewsContentArchiveMapper;
+import tech.cspioneer.backend.service.NewsContentCompactionService;
+import tech.cspioneer.backend.utils.ThrottledBatchRunner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 新闻内容版本归档。
+ * 每次编辑都会插入新的 news_content 行，被拒绝或被替代的版本不再被新闻指针引用，只在审核历史中查看。
+ * 超过 min-age-days 的这类版本由 ThrottledBatchRunner 按批次复制到 news_content_archive 并从热表删除，
+ * 归档行保留原ID，审核历史无需改写。
+ */
+@Service
+@RequiredArgsConstructor
+public class NewsContentCompactionServiceImpl implements NewsContentCompactionService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsContentCompactionServiceImpl.class);
+
+    private final NewsContentArchiveMapper newsContentArchiveMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment environment;
+
+    @Value("${news.compaction.min-age-days:30}")
+    private int minAgeDays;
+
+    private ThrottledBatchRunner runner;
+
+    @PostConstruct
+    public void init() {
+        runner = new ThrottledBatchRunner(environment, "news.compaction", 500, 100);
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(cron = "${news.compaction.cron:0 0 4 * * *}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        long archived = runner.run(batchSize -> archiveBatch(cutoff, batchSize));
+        if (archived > 0) {
+            log.info("Archived {} superseded news content versions older than {}", archived, cutoff);
+        }
+    }
+
+    @Override
+    public NewsCompactionStatusResponse getStatus() {
+        NewsCompactionStatusResponse response = new NewsCompactionStatusResponse();
+        response.setMinAgeDays(minAgeDays);
+        response.setArchivedTotal(newsContentArchiveMapper.countArchived());
+        response.setRowsArchived(runner.getRowsMoved());
+        response.setBatchesRun(runner.getBatchesRun());
+        response.setLastRunAt(runner.getLastRunAt());
+        response.setLastRunArchived(runner.getLastRunMoved());
+        response.setLastRunDurationMs(runner.getLastRunDurationMs());
+        return response;
+    }
+
+    // --- Private Helper Methods ---
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = newsContentArchiveMapper.findArchivableContentIds(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            newsContentArchiveMapper.copyToArchive(ids);
+            return newsContentArchiveMapper.deleteContents(ids);
+        });
+        return moved == null ? 0 : moved;
+    }
+}
@@ -0,0 +1,296 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tech.cspioneer.backend.service.NewsContentFetchService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 新闻正文下载与缓存。
+ * 1. 共用一个 HttpClient（连接复用），响应体以非阻塞方式接收，超过上限直接拒绝；
+ *    每次下载（含响应体）有整体截止时间，到期后中止请求并从进行中的下载里移除，不会占住线程；
+ * 2. 正文按 resource_url 缓存在按字节数限制的本地 LRU 中。每个 news_content 版本的资源不会变化，
+ *    超过 revalidate-after-seconds 后才带 If-None-Match / If-Modified-Since 做条件请求，304 时沿用缓存；
+ * 3. 同一URL的并发请求共享一次进行中的下载；重新校验失败时继续返回旧副本。
+ */
+@Service
+public class NewsContentFetchServiceImpl implements NewsContentFetchService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsContentFetchServiceImpl.class);
+
+    private final Executor contentFetchExecutor;
+
+    @Value("${news.content-fetch.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${news.content-fetch.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
+    @Value("${news.content-fetch.max-body-bytes:2097152}")
+    private int maxBodyBytes;
+
+    @Value("${news.content-fetch.cache-max-bytes:67108864}")
+    private long cacheMaxBytes;
+
+    @Value("${news.content-fetch.revalidate-after-seconds:600}")
+    private long revalidateAfterSeconds;
+
+    private HttpClient httpClient;
+
+    private final LinkedHashMap<String, CachedBody> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    private final ConcurrentHashMap<String, CompletableFuture<CachedBody>> inFlight = new ConcurrentHashMap<>();
+
+    public NewsContentFetchServiceImpl(@Qualifier("contentFetchExecutor") Executor contentFetchExecutor) {
+        this.contentFetchExecutor = contentFetchExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(contentFetchExecutor)
+                .build();
+    }
+
+    @Override
+    public String fetch(String resourceUrl) throws IOException {
+        URI uri = parse(resourceUrl);
+        CachedBody cached = getCached(resourceUrl);
+        if (cached != null && System.currentTimeMillis() - cached.validatedAt() < revalidateAfterSeconds * 1000) {
+            return cached.body();
+        }
+
+        CompletableFuture<CachedBody> promise = new CompletableFuture<>();
+        CompletableFuture<CachedBody> download = inFlight.putIfAbsent(resourceUrl, promise);
+        if (download == null) {
+            download = promise;
+            startDownload(uri, cached).whenComplete((body, error) -> {
+                inFlight.remove(resourceUrl, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    putCached(resourceUrl, body);
+                    promise.complete(body);
+                }
+            });
+        }
+
+        try {
+            return download.get(connectTimeoutMs + readTimeoutMs, TimeUnit.MILLISECONDS).body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + resourceUrl, e);
+        } catch (ExecutionException | TimeoutException e) {
+            Throwable cause = unwrap(e);
+            if (cached != null) {
+                log.warn("Revalidation of {} failed, serving cached copy: {}", resourceUrl, cause.toString());
+                return cached.body();
+            }
+            throw new IOException("Failed to fetch " + resourceUrl + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private CompletableFuture<CachedBody> startDownload(URI uri, CachedBody cached) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Accept", "text/html, */*;q=0.8")
+                .GET();
+        if (cached != null && cached.etag() != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            request.header("If-Modified-Since", cached.lastModified());
+        }
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request.build(), responseInfo ->
+                responseInfo.statusCode() == 200
+                        ? new LimitedBodySubscriber(uri, maxBodyBytes, responseInfo.headers().firstValueAsLong("Content-Length").orElse(-1))
+                        : HttpResponse.BodySubscribers.replacing(new byte[0]));
+        // HttpRequest.timeout 只限制等待响应头，这里为包括响应体在内的整个下载设置截止时间
+        CompletableFuture<CachedBody> download = exchange
+                .thenApply(response -> toCachedBody(uri, response, cached))
+                .orTimeout(connectTimeoutMs + readTimeoutMs, TimeUnit.MILLISECONDS);
+        download.whenComplete((body, error) -> {
+            if (error instanceof TimeoutException) {
+                exchange.cancel(true);
+            }
+        });
+        return download;
+    }
+
+    private CachedBody toCachedBody(URI uri, HttpResponse<byte[]> response, CachedBody cached) {
+        long now = System.currentTimeMillis();
+        int status = response.statusCode();
+        if (status == 304 && cached != null) {
+            return cached.revalidatedAt(now);
+        }
+        if (status != 200) {
+            throw new UncheckedIOException(new IOException("Unexpected HTTP status " + status + " from " + uri));
+        }
+        byte[] bytes = response.body();
+        return new CachedBody(
+                new String(bytes, charsetOf(response)),
+                bytes.length,
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null),
+                now);
+    }
+
+    private URI parse(String resourceUrl) throws IOException {
+        try {
+            URI uri = URI.create(resourceUrl.trim());
+            if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+                throw new IOException("Unsupported resource URL scheme: " + resourceUrl);
+            }
+            return uri;
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid resource URL: " + resourceUrl, e);
+        }
+    }
+
+    private static Charset charsetOf(HttpResponse<?> response) {
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        for (String part : contentType.split(";")) {
+            String param = part.trim();
+            if (param.regionMatches(true, 0, "charset=", 0, 8)) {
+                try {
+                    return Charset.forName(param.substring(8).replace("\"", "").trim());
+                } catch (IllegalArgumentException e) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof ExecutionException || cause instanceof CompletionException
+                || cause instanceof UncheckedIOException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private synchronized CachedBody getCached(String resourceUrl) {
+        return cache.get(resourceUrl);
+    }
+
+    private synchronized void putCached(String resourceUrl, CachedBody body) {
+        if (body.size() > cacheMaxBytes) {
+            return;
+        }
+        CachedBody previous = cache.put(resourceUrl, body);
+        if (previous != null) {
+            cachedBytes -= previous.size();
+        }
+        cachedBytes += body.size();
+        Iterator<Map.Entry<String, CachedBody>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > cacheMaxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().getValue().size();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * 在 HttpClient 的回调中累积响应体，超过上限时取消订阅并失败，不占用读取线程。
+     */
+    private static final class LimitedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final URI uri;
+        private final int limit;
+        private final long declaredLength;
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private Flow.Subscription subscription;
+
+        LimitedBodySubscriber(URI uri, int limit, long declaredLength) {
+            this.uri = uri;
+            this.limit = limit;
+            this.declaredLength = declaredLength;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (declaredLength > limit) {
+                subscription.cancel();
+                result.completeExceptionally(new IOException("Content of " + uri + " is " + declaredLength + " bytes, limit is " + limit));
+                return;
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (result.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                if (buffer.size() + item.remaining() > limit) {
+                    subscription.cancel();
+                    result.completeExceptionally(new IOException("Content of " + uri + " exceeds limit of " + limit + " bytes"));
+                    return;
+                }
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                buffer.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            result.completeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(buffer.toByteArray());
+        }
+    }
+
+    private record CachedBody(String body, int size, String etag, String lastModified, long validatedAt) {
+
+        CachedBody revalidatedAt(long now) {
+            return new CachedBody(body, size, etag, lastModified, now);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.cspioneer.backend.entity.dto.response.NewsListResponse;
+import tech.cspioneer.backend.entity.query.NewsListQuery;
+import tech.cspioneer.backend.mapper.NewsFeedMapper;
+import tech.cspioneer.backend.service.NewsFeedService;
+
+import java.util.List;
+
+/**
+ * 新闻列表物化视图。
+ * news_feed 为每条未删除的新闻保存一行展示数据（与后台列表相同：待审核时取待审核版本，否则取当前版本），
+ * 新闻的每次写操作都会删除并按最新状态重新生成对应的行；用户/企业列表只读此表。
+ */
+@Service
+@RequiredArgsConstructor
+public class NewsFeedServiceImpl implements NewsFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsFeedServiceImpl.class);
+
+    private final NewsFeedMapper newsFeedMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${news.feed.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @Override
+    public void refresh(List<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return;
+        }
+        // 调用方已在事务中时加入该事务，否则删除与重新生成在同一个事务内完成
+        transactionTemplate.executeWithoutResult(status -> {
+            newsFeedMapper.deleteByNewsIds(newsIds);
+            newsFeedMapper.insertFromNews(newsIds);
+        });
+    }
+
+    @Override
+    public List<NewsListResponse> getFeed(Long companyId, NewsListQuery query) {
+        int offset = (query.getPage() - 1) * query.getPageSize();
+        return newsFeedMapper.findFeed(companyId, query, offset, offset + query.getPageSize());
+    }
+
+    @Override
+    public long rebuild() {
+        long processed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = newsFeedMapper.findNewsIdsAfter(afterId, rebuildBatchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            refresh(ids);
+            processed += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("Rebuilt news feed for {} news", processed);
+        return processed;
+    }
+}
@@ -4,9 +4,12 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import tech.cspioneer.backend.entity.*;
 import tech.cspioneer.backend.entity.dto.request.NewsAuditReviewRequest;
+import tech.cspioneer.backend.entity.dto.request.NewsBulkAuditRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsQueryRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUploadRequest;
 import tech.cspioneer.backend.entity.dto.request.NewsUpdateRequest;
@@ -15,17 +18,26 @@ import tech.cspioneer.backend.entity.enums.*;
 import tech.cspioneer.backend.entity.query.NewsListQuery;
 import tech.cspioneer.backend.exception.NewsServiceException;
 import tech.cspioneer.backend.mapper.*;
+import tech.cspioneer.backend.service.NewsCacheService;
+import tech.cspioneer.backend.service.NewsContentFetchService;
+import tech.cspioneer.backend.service.NewsFeedService;
 import tech.cspioneer.backend.service.NewsService;
+import tech.cspioneer.backend.service.NewsViewService;
+import tech.cspioneer.backend.service.ViewerAnalyticsService;
 import tech.cspioneer.backend.service.NotificationService;
 import tech.cspioneer.backend.utils.CopyTools;
+import tech.cspioneer.backend.utils.TransactionUtils;
 import tech.cspioneer.backend.utils.UuidUtils;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,6 +55,18 @@ public class NewsServiceImpl implements NewsService {
     private NewsAuditHistoryMapper newsAuditHistoryMapper;
     @Autowired
     private NotificationService notificationService;
+    @Autowired
+    private NewsCacheService newsCacheService;
+    @Autowired
+    private NewsContentFetchService newsContentFetchService;
+    @Autowired
+    private NewsFeedService newsFeedService;
+    @Autowired
+    private NewsViewService newsViewService;
+    @Autowired
+    private ViewerAnalyticsService viewerAnalyticsService;
+    @Value("${news.audit.bulk-max-size:200}")
+    private int bulkAuditMaxSize;
     Logger logger = LoggerFactory.getLogger(NewsServiceImpl.class);
     @Override
     public int uploadNews(NewsUploadRequest request) {
@@ -99,6 +123,7 @@ public class NewsServiceImpl implements NewsService {
         }else {
             return -1;
         }
+        newsFeedService.refresh(List.of(news.getId()));
         return 0;
     }
 
@@ -153,6 +178,7 @@ public class NewsServiceImpl implements NewsService {
             newsContent.setVersion(newsContentMapper.getMaxVersionByNewsId(news.getId())+1);
             newsContent.setPublisherId(admin.getId());
             newsContentMapper.insert(newsContent);
+            archiveSupersededContent(news.getCurrentContentId());
             news.setCurrentContentId(newsContent.getId());
             news.setStatus(NewsStatus.published);
             newsMapper.update(news);
@@ -166,6 +192,8 @@ public class NewsServiceImpl implements NewsService {
         }else {
             return -1;
         }
+        newsFeedService.refresh(List.of(news.getId()));
+        newsCacheService.evictNews(uuid);
         return 0;
     }
 
@@ -190,34 +218,36 @@ public class NewsServiceImpl implements NewsService {
             return -1;
         }
         newsMapper.deleteById(news.getId());
+        newsFeedService.refresh(List.of(news.getId()));
+        newsCacheService.evictNews(uuid);
         return 0;
     }
 
     @Override
     public NewsDetailResponse getNewsDetail(String uuid, String userUuid, String identity) {
-        News news = newsMapper.findByUuid(uuid);
-        NewsContent newsContent = newsContentMapper.findById(news.getCurrentContentId());
-        NewsDetailResponse newsDetailResponse = CopyTools.copy(newsContent, NewsDetailResponse.class);
-        newsDetailResponse.setUuid(news.getUuid());
-        newsDetailResponse.setContentCreatedAt(newsContent.getCreatedAt());
-        newsDetailResponse.setCompanyId(news.getCompanyId());
+        News news = newsCacheService.getNews(uuid);
+        if (news == null) {
+            throw new NewsServiceException("新闻不存在");
+        }
+        NewsDetailResponse newsDetailResponse = newsCacheService.getPublishedDetail(news);
+        if (newsDetailResponse == null) {
+            throw new NewsServiceException("新闻内容不存在");
+        }
         switch (identity){
             case "ADMIN" -> {
-                return newsDetailResponse;
+                return viewed(news, userUuid, newsDetailResponse);
             }
             case "COMPANY" -> {
-                Company company = companyMapper.findByUuid(userUuid);
-                if (company.getId().equals(news.getCompanyId())||news.getVisible() == 1){
-                    return newsDetailResponse;
+                // 公开新闻无需再查询操作者
+                if (news.getVisible() == 1 || companyMapper.findByUuid(userUuid).getId().equals(news.getCompanyId())){
+                    return viewed(news, userUuid, newsDetailResponse);
                 }else {
                     throw new NewsServiceException("无查看权限");
                 }
             }
             case "USER" -> {
-                User user = userMapper.findByUuid(userUuid);
-                Company company = companyMapper.findByid(user.getCompanyId());
-                if (company.getId().equals(news.getCompanyId())||news.getVisible() == 1){
-                    return newsDetailResponse;
+                if (news.getVisible() == 1 || Objects.equals(userMapper.findByUuid(userUuid).getCompanyId(), news.getCompanyId())){
+                    return viewed(news, userUuid, newsDetailResponse);
                 }else {
                     throw new NewsServiceException("无查看权限");
                 }
@@ -226,6 +256,15 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    /**
+     * 记录一次通过权限校验的浏览：浏览次数在内存中聚合后批量落库，独立访客写入 HyperLogLog
+     */
+    private NewsDetailResponse viewed(News news, String userUuid, NewsDetailResponse newsDetailResponse) {
+        newsViewService.recordView(news.getId(), news.getVisible() == 1);
+        viewerAnalyticsService.recordView(ViewerItemType.NEWS, news.getUuid(), userUuid);
+        return newsDetailResponse;
+    }
+
 
     @Override
     public List<NewsListResponse> getNewsList(NewsQueryRequest request) {
@@ -235,14 +274,13 @@ public class NewsServiceImpl implements NewsService {
         switch (request.getIdentity()) {
             case "ADMIN" -> newsListResponses = newsMapper.findNewsList(newsListQuery,offset);
             case "COMPANY" -> {
-                newsListQuery.setCompanyUuid(request.getUserUuid());
-                newsListResponses = newsMapper.findNewsList(newsListQuery,offset);
+                // 企业与用户只能看到公开新闻和本公司新闻，从物化的 news_feed 读取
+                Company company = companyMapper.findByUuid(request.getUserUuid());
+                newsListResponses = newsFeedService.getFeed(company == null ? null : company.getId(), newsListQuery);
             }
             case "USER" -> {
                 User user = userMapper.findByUuid(request.getUserUuid());
-                Company company = companyMapper.findById(user.getCompanyId());
-                newsListQuery.setCompanyUuid(company.getUuid());
-                newsListResponses = newsMapper.findNewsList(newsListQuery,offset);
+                newsListResponses = newsFeedService.getFeed(user.getCompanyId(), newsListQuery);
             }
             default -> throw new NewsServiceException("登陆状态异常");
         }
@@ -295,32 +333,36 @@ public class NewsServiceImpl implements NewsService {
             throw new NewsServiceException("无效的用户身份");
         }
 
+        // 对于管理员列表，我们总是想看到最新的内容：优先展示待审核版本，否则展示当前已发布版本
+        List<Long> contentIds = newsList.stream()
+                .map(this::resolveListContentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        // 当前页的内容一次性批量加载，查询次数不随页大小增长
+        Map<Long, NewsContent> contentById = contentIds.isEmpty()
+                ? Collections.emptyMap()
+                : newsContentMapper.findByIds(contentIds).stream()
+                        .collect(Collectors.toMap(NewsContent::getId, Function.identity()));
+
         return newsList.stream().map(news -> {
             NewsListResponse response = new NewsListResponse();
             response.setUuid(news.getUuid());
             response.setCompanyId(news.getCompanyId());
             response.setCreatedAt(news.getCreatedAt());
 
-            // 决定使用哪个 content_id
-            Long contentIdToFetch = null;
-            // 对于管理员列表，我们总是想看到最新的内容，无论是待审核还是已发布
-            if (news.getPendingContentId() != null) {
-                contentIdToFetch = news.getPendingContentId(); // 优先展示待审核版本
-            } else {
-                contentIdToFetch = news.getCurrentContentId(); // 否则展示当前已发布版本
-            }
-
             // 获取新闻内容摘要
-            if (contentIdToFetch != null) {
-                NewsContent content = newsContentMapper.findById(contentIdToFetch);
-                if (content != null) {
-                    response.setTitle(content.getTitle());
-                    response.setSummary(content.getSummary());
-                    response.setCoverImageUrl(content.getCoverImageUrl());
+            Long contentIdToFetch = resolveListContentId(news);
+            NewsContent content = contentIdToFetch == null ? null : contentById.get(contentIdToFetch);
+            if (content != null) {
+                response.setTitle(content.getTitle());
+                response.setSummary(content.getSummary());
+                response.setCoverImageUrl(content.getCoverImageUrl());
+                if (content.getCreatedAt() != null) {
                     response.setContentCreatedAt(content.getCreatedAt().toString());
                 }
             }
-            
+
             // 设置新闻状态
             response.setStatus(news.getStatus().toString());
 
@@ -328,6 +370,13 @@ public class NewsServiceImpl implements NewsService {
         }).collect(Collectors.toList());
     }
 
+    /**
+     * 列表页展示的内容版本：存在待审核版本时优先展示，否则展示当前已发布版本
+     */
+    private Long resolveListContentId(News news) {
+        return news.getPendingContentId() != null ? news.getPendingContentId() : news.getCurrentContentId();
+    }
+
     @Override
     public List<NewsAuditListResponse> getNewsAuditList(int page, int pageSize, String status, String adminUuid) {
         int offset = page * pageSize;
@@ -361,13 +410,7 @@ public class NewsServiceImpl implements NewsService {
             // 从 resource_url 获取 HTML 内容
             if (detail.getResourceUrl() != null && !detail.getResourceUrl().isEmpty()) {
                 try {
-                    URL url = new URL(detail.getResourceUrl());
-                    try (Scanner scanner = new Scanner(url.openStream(), "UTF-8")) {
-                        scanner.useDelimiter("\\A");
-                        if (scanner.hasNext()) {
-                            detail.setContent(scanner.next());
-                        }
-                    }
+                    detail.setContent(newsContentFetchService.fetch(detail.getResourceUrl()));
                 } catch (IOException e) {
                     logger.error("Error fetching content from URL: {}", detail.getResourceUrl(), e);
                     detail.setContent("<p>无法加载内容</p>");
@@ -404,6 +447,7 @@ public class NewsServiceImpl implements NewsService {
                     news.setPendingContentId(null);
                     newsMapper.update(news);
                 }
+                newsFeedService.refresh(List.of(news.getId()));
                 // notificationService.sendSystemNotificationToUser(news.getCompanyId(),"您的新闻已被拒绝",newsAuditReviewRequest.getComment(), RelatedObjectType.COMPANY,news.getCompanyId());
             }
             case "approved" ->{
@@ -418,28 +462,114 @@ public class NewsServiceImpl implements NewsService {
                 newsAuditHistory.setComments(newsAuditReviewRequest.getComment());
                 newsAuditHistory.setAuditorId(admin.getId());
                 newsAuditHistoryMapper.insert(newsAuditHistory);
+                archiveSupersededContent(news.getCurrentContentId());
                 news.setStatus(NewsStatus.published);
                 news.setCurrentContentId(news.getPendingContentId());
                 news.setPendingContentId(null);
                 newsMapper.update(news);
+                newsFeedService.refresh(List.of(news.getId()));
                 // String notificationContent = newsAuditReviewRequest.getComment() != null ? newsAuditReviewRequest.getComment() : "您的新闻已通过审核。";
                 // notificationService.sendSystemNotificationToUser(news.getCompanyId(),"您的新闻已被通过", notificationContent, RelatedObjectType.COMPANY,news.getCompanyId());
             }
             default -> throw new NewsServiceException("审核状态有误");
         }
+        newsCacheService.evictNews(uuid);
     }
 
     @Override
-    public List<NewsHistoryResponse> getNewsAuditHistoryList(String uuid, String userUuid, String identity) {
+    @Transactional
+    public NewsBulkAuditResponse bulkAuditNews(String adminUuid, NewsBulkAuditRequest request) {
+        NewsAuditHistoryStatus decision;
+        if ("approved".equals(request.getAuditStatus())) {
+            decision = NewsAuditHistoryStatus.approved;
+        } else if ("rejected".equals(request.getAuditStatus())) {
+            decision = NewsAuditHistoryStatus.rejected;
+        } else {
+            throw new NewsServiceException("审核状态有误");
+        }
+        if (request.getNewsUuids() == null || request.getNewsUuids().isEmpty()) {
+            throw new NewsServiceException("新闻列表不能为空");
+        }
+        List<String> uuids = new ArrayList<>(new LinkedHashSet<>(request.getNewsUuids()));
+        if (uuids.size() > bulkAuditMaxSize) {
+            throw new NewsServiceException("单次最多审核 " + bulkAuditMaxSize + " 条新闻");
+        }
+        User admin = userMapper.findByUuid(adminUuid);
+        if (admin == null) {
+            throw new NewsServiceException("Auditor (admin) not found.");
+        }
+
+        // 加行锁读取，避免与单条审核或编辑并发时重复审核同一待审核版本
+        Map<String, News> newsByUuid = newsMapper.findByUuidsForUpdate(uuids).stream()
+                .collect(Collectors.toMap(News::getUuid, Function.identity()));
+
+        List<NewsBulkAuditItemResult> results = new ArrayList<>(uuids.size());
+        List<Long> newsIds = new ArrayList<>();
+        List<Long> contentIds = new ArrayList<>();
+        List<Long> supersededContentIds = new ArrayList<>();
+        List<NewsAuditHistory> histories = new ArrayList<>();
+        List<String> auditedUuids = new ArrayList<>();
+        for (String uuid : uuids) {
+            News news = newsByUuid.get(uuid);
+            if (news == null) {
+                results.add(new NewsBulkAuditItemResult(uuid, false, "新闻不存在"));
+                continue;
+            }
+            if (news.getStatus() != NewsStatus.pending || news.getPendingContentId() == null) {
+                results.add(new NewsBulkAuditItemResult(uuid, false, "新闻不在待审核状态"));
+                continue;
+            }
+            newsIds.add(news.getId());
+            contentIds.add(news.getPendingContentId());
+            if (news.getCurrentContentId() != null) {
+                supersededContentIds.add(news.getCurrentContentId());
+            }
+            NewsAuditHistory history = new NewsAuditHistory();
+            history.setAuditStatus(decision);
+            history.setNewsContentId(news.getPendingContentId());
+            history.setComments(request.getComment());
+            history.setAuditorId(admin.getId());
+            histories.add(history);
+            auditedUuids.add(uuid);
+            results.add(new NewsBulkAuditItemResult(uuid, true, null));
+        }
+
+        if (!newsIds.isEmpty()) {
+            if (decision == NewsAuditHistoryStatus.approved) {
+                newsContentMapper.updateStatusByIds(contentIds, NewsContentStatus.published.name());
+                if (!supersededContentIds.isEmpty()) {
+                    newsContentMapper.updateStatusByIds(supersededContentIds, NewsContentStatus.archived.name());
+                }
+                newsMapper.approvePendingByIds(newsIds);
+            } else {
+                newsContentMapper.updateStatusByIds(contentIds, NewsContentStatus.archived.name());
+                newsMapper.rejectPendingByIds(newsIds);
+            }
+            newsAuditHistoryMapper.insertBatch(histories);
+            newsFeedService.refresh(newsIds);
+            TransactionUtils.afterCommit(() -> auditedUuids.forEach(newsCacheService::evictNews));
+        }
+        logger.info("Bulk news audit by {}: {} {} of {} requested", adminUuid, decision, newsIds.size(), uuids.size());
+
+        NewsBulkAuditResponse response = new NewsBulkAuditResponse();
+        response.setTotal(uuids.size());
+        response.setSucceeded(newsIds.size());
+        response.setFailed(uuids.size() - newsIds.size());
+        response.setResults(results);
+        return response;
+    }
+
+    @Override
+    public List<NewsHistoryResponse> getNewsAuditHistoryList(String uuid, String userUuid, String identity, boolean includeArchived) {
         switch (identity){
             case "ADMIN" -> {
-                return newsMapper.findNewsHistory(uuid);
+                return findNewsHistory(uuid, includeArchived);
             }
             case "COMPANY" -> {
                 News news = newsMapper.findByUuid(uuid);
                 Company company = companyMapper.findByUuid(userUuid);
                 if (news.getCompanyId().equals(company.getId())){
-                    return newsMapper.findNewsHistory(uuid);
+                    return findNewsHistory(uuid, includeArchived);
                 }else {
                     throw new NewsServiceException("没有权限");
                 }
@@ -448,6 +578,13 @@ public class NewsServiceImpl implements NewsService {
         }
     }
 
+    /**
+     * 审核历史默认只查热表；includeArchived 时同时查询已移入归档表的历史版本
+     */
+    private List<NewsHistoryResponse> findNewsHistory(String uuid, boolean includeArchived) {
+        return includeArchived ? newsMapper.findNewsHistoryIncludingArchived(uuid) : newsMapper.findNewsHistory(uuid);
+    }
+
     @Override
     public void deleteNewsAsRoot(String uuid) {
         News news = newsMapper.findByUuid(uuid);
@@ -455,6 +592,17 @@ public class NewsServiceImpl implements NewsService {
             throw new NewsServiceException("要删除的新闻不存在");
         }
         newsMapper.deleteById(news.getId());
+        newsFeedService.refresh(List.of(news.getId()));
+        newsCacheService.evictNews(uuid);
         logger.info("新闻 '{}' (UUID: {}) 已被超管删除。", news.getUuid(), uuid);
     }
+
+    /**
+     * 被新版本替代的当前版本标记为 archived，之后由内容压缩任务移入归档表
+     */
+    private void archiveSupersededContent(Long contentId) {
+        if (contentId != null) {
+            newsContentMapper.updateStatus(contentId, NewsContentStatus.archived.name());
+        }
+    }
 }
@@ -0,0 +1,179 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.entity.dto.response.NewsTrendingResponse;
+import tech.cspioneer.backend.mapper.NewsStatsMapper;
+import tech.cspioneer.backend.service.NewsViewService;
+import tech.cspioneer.backend.utils.RedisUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 新闻浏览计数与热门排行（写后聚合）。
+ * 1. 每次浏览只对内存中该新闻的 LongAdder 加一，不访问数据库；计数器按新闻ID常驻，数量以被浏览过的新闻数为上限；
+ * 2. 定时任务取出各计数器的增量，按批次用一条多行 INSERT ... ON DUPLICATE KEY UPDATE 累加到 news_stats，
+ *    写入失败的增量放回计数器，下个周期重试；
+ * 3. 公开新闻的增量同时以 2^((now - epoch) / half-life) 的权重加到 Redis 有序集合 news:trending，
+ *    越新的浏览权重越高，相当于旧分数按半衰期指数衰减；权重过大时整体缩放分数并重置 epoch。
+ *    排行只保留前 max-size 个成员，读取为 O(log n) 的 ZREVRANGE。
+ */
+@Service
+@RequiredArgsConstructor
+public class NewsViewServiceImpl implements NewsViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsViewServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String TRENDING_KEY = "news:trending";
+    private static final String EPOCH_KEY = "news:trending:epoch";
+    private static final String RESCALE_LOCK_KEY = "news:trending:rescale";
+    private static final int EPOCH_TTL_SECONDS = 365 * 24 * 3600;
+    private static final int RESCALE_LOCK_SECONDS = 60;
+    // 权重超过 2^20 时缩放，避免分数溢出双精度的有效位
+    private static final double MAX_EXPONENT = 20;
+
+    private final NewsStatsMapper newsStatsMapper;
+
+    @Value("${news.stats.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Value("${news.trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+
+    @Value("${news.trending.max-size:1000}")
+    private int trendingMaxSize;
+
+    private final ConcurrentHashMap<Long, ViewCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordView(Long newsId, boolean publicNews) {
+        counters.computeIfAbsent(newsId, id -> new ViewCounter()).record(publicNews);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${news.stats.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Long> views = new HashMap<>();
+        Map<Long, Long> publicViews = new HashMap<>();
+        counters.forEach((newsId, counter) -> {
+            long count = counter.views.sumThenReset();
+            if (count > 0) {
+                views.put(newsId, count);
+                if (counter.publicNews) {
+                    publicViews.put(newsId, count);
+                }
+            }
+        });
+        if (views.isEmpty()) {
+            return;
+        }
+        persist(views);
+        if (!publicViews.isEmpty()) {
+            updateTrending(publicViews);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public List<NewsTrendingResponse> getTrending(int limit) {
+        try {
+            // 多取一些，排行中可能有已删除、已撤回或改为非公开的新闻
+            List<Long> ranked = RedisUtils.zrevrange(TRENDING_KEY, 0, limit * 2L - 1, REDIS_DB).stream()
+                    .map(Long::valueOf)
+                    .toList();
+            if (!ranked.isEmpty()) {
+                Map<Long, NewsTrendingResponse> byId = newsStatsMapper.findTrendingByNewsIds(ranked).stream()
+                        .collect(Collectors.toMap(NewsTrendingResponse::getNewsId, Function.identity()));
+                return ranked.stream().map(byId::get).filter(Objects::nonNull).limit(limit).toList();
+            }
+        } catch (JedisException e) {
+            log.warn("Trending ranking unavailable, falling back to total views", e);
+        }
+        return newsStatsMapper.findTopViewed(limit);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void persist(Map<Long, Long> views) {
+        Map<Long, Long> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Long, Long> entry : views.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() >= flushBatchSize) {
+                persistChunk(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk);
+        }
+    }
+
+    private void persistChunk(Map<Long, Long> chunk) {
+        try {
+            newsStatsMapper.addViewCounts(chunk);
+        } catch (Exception e) {
+            // 增量放回计数器，下个周期重试
+            chunk.forEach((newsId, count) -> counters.computeIfAbsent(newsId, id -> new ViewCounter()).views.add(count));
+            log.warn("Failed to flush {} news view counters, will retry", chunk.size(), e);
+        }
+    }
+
+    private void updateTrending(Map<Long, Long> publicViews) {
+        try {
+            long now = System.currentTimeMillis();
+            long halfLifeMs = halfLifeMinutes * 60_000;
+            long epoch = trendingEpoch(now);
+            double exponent = (double) (now - epoch) / halfLifeMs;
+            if (exponent > MAX_EXPONENT && RedisUtils.setIfAbsent(RESCALE_LOCK_KEY, "1", RESCALE_LOCK_SECONDS, REDIS_DB)) {
+                RedisUtils.zscaleAndTrim(TRENDING_KEY, Math.pow(2, -exponent), trendingMaxSize, REDIS_DB);
+                RedisUtils.set(EPOCH_KEY, String.valueOf(now), EPOCH_TTL_SECONDS, REDIS_DB);
+                exponent = 0;
+            }
+            double weight = Math.pow(2, exponent);
+            Map<String, Double> increments = new HashMap<>();
+            publicViews.forEach((newsId, count) -> increments.put(String.valueOf(newsId), count * weight));
+            RedisUtils.zincrByAll(TRENDING_KEY, increments, REDIS_DB);
+            RedisUtils.ztrim(TRENDING_KEY, trendingMaxSize, REDIS_DB);
+        } catch (JedisException e) {
+            // 排行是尽力而为的，计数已经落库
+            log.warn("Failed to update trending ranking for {} news", publicViews.size(), e);
+        }
+    }
+
+    private long trendingEpoch(long now) {
+        if (RedisUtils.setIfAbsent(EPOCH_KEY, String.valueOf(now), EPOCH_TTL_SECONDS, REDIS_DB)) {
+            return now;
+        }
+        String epoch = RedisUtils.get(EPOCH_KEY, REDIS_DB);
+        return epoch == null ? now : Long.parseLong(epoch);
+    }
+
+    private static final class ViewCounter {
+        private final LongAdder views = new LongAdder();
+        private volatile boolean publicNews;
+
+        void record(boolean publicNews) {
+            this.publicNews = publicNews;
+            views.increment();
+        }
+    }
+}
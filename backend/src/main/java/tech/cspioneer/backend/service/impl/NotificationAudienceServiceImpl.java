@@ -0,0 +1,472 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.entity.User;
+import tech.cspioneer.backend.entity.dto.response.AudienceIndexMetricsResponse;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.mapper.MeetingParticipantMapper;
+import tech.cspioneer.backend.mapper.UserMapper;
+import tech.cspioneer.backend.service.NotificationAudienceService;
+import tech.cspioneer.backend.utils.RedisUtils;
+import tech.cspioneer.backend.utils.TransactionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+/**
+ * 通知受众索引。
+ * 全体活跃用户ID为自增主键、分布稠密，用 java.util.BitSet 保存，按最大用户ID计每百万ID约 122 KB；
+ * 各公司和各会议的成员只占全部用户的一小部分，若同样用位图则每个位图都要按最大用户ID分配，
+ * 因此改为有序 long 数组，每个成员 8 字节，内存只与成员数成正比。
+ * 用户索引启动时全量构建并定期重建；会议参会者按需加载。
+ * 业务变更在本地事务提交后立即生效，并通过 Redis 频道通知其他节点重新加载对应的用户或会议。
+ */
+@Service
+@DependsOn("redisUtils")
+@RequiredArgsConstructor
+public class NotificationAudienceServiceImpl implements NotificationAudienceService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationAudienceServiceImpl.class);
+
+    private static final String CHANNEL = "notification:audience";
+    private static final String USER_PREFIX = "user:";
+    private static final String MEETING_PREFIX = "meeting:";
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final UserMapper userMapper;
+    private final MeetingParticipantMapper meetingParticipantMapper;
+
+    @Value("${notification.audience.max-cached-meetings:1000}")
+    private int maxCachedMeetings;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private BitSet activeUsers = new BitSet();
+    private Map<Long, SortedIds> companyUsers = new HashMap<>();
+    private final Map<Long, Long> userCompanies = new HashMap<>();
+    private final Map<Long, CachedParticipants> meetingParticipants = new ConcurrentHashMap<>();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private volatile boolean running = true;
+    private volatile JedisPubSub relay;
+    private volatile LocalDateTime lastRebuildAt;
+    private volatile long lastRebuildMs;
+    private final LongAdder incrementalUpdates = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        Thread relayThread = new Thread(this::relayLoop, "notification-audience-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        JedisPubSub current = relay;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public LongStream audience(FanoutAudience audience, Long audienceId, long afterUserId) {
+        lock.readLock().lock();
+        try {
+            if (audience == FanoutAudience.COMPANY) {
+                SortedIds users = companyUsers.get(audienceId);
+                return users == null ? LongStream.empty() : Arrays.stream(users.copyAfter(afterUserId));
+            }
+            BitSet users = (BitSet) activeUsers.clone();
+            users.clear(0, (int) Math.min(afterUserId + 1, Integer.MAX_VALUE));
+            return users.stream().asLongStream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public LongStream audienceExcluding(FanoutAudience audience, Long audienceId, long[] excludedUserIds) {
+        long[] excluded = sortedCopy(excludedUserIds);
+        lock.readLock().lock();
+        try {
+            if (audience == FanoutAudience.COMPANY) {
+                SortedIds users = companyUsers.get(audienceId);
+                return users == null ? LongStream.empty() : Arrays.stream(users.difference(excluded));
+            }
+            BitSet users = (BitSet) activeUsers.clone();
+            for (long userId : excluded) {
+                if (userId >= 0 && userId <= Integer.MAX_VALUE) {
+                    users.clear((int) userId);
+                }
+            }
+            return users.stream().asLongStream();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public LongStream audienceIntersecting(FanoutAudience audience, Long audienceId, long[] userIds) {
+        long[] candidates = sortedCopy(userIds);
+        lock.readLock().lock();
+        try {
+            if (audience == FanoutAudience.COMPANY) {
+                SortedIds users = companyUsers.get(audienceId);
+                return users == null ? LongStream.empty() : Arrays.stream(users.intersection(candidates));
+            }
+            return Arrays.stream(Arrays.stream(candidates)
+                    .filter(userId -> userId >= 0 && userId <= Integer.MAX_VALUE && activeUsers.get((int) userId))
+                    .toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long[] approvedParticipants(Long meetingId) {
+        CachedParticipants cached = meetingParticipants.get(meetingId);
+        if (cached != null && cached.userIds != null) {
+            return cached.userIds.clone();
+        }
+        if (meetingParticipants.size() >= maxCachedMeetings) {
+            meetingParticipants.clear();
+        }
+        // 加载前先放入本次加载独有的占位，失效会把它移除；只有占位仍在时才写回结果，
+        // 避免失效之前开始的加载在失效之后把旧名单放回缓存
+        CachedParticipants loading = new CachedParticipants(null);
+        meetingParticipants.put(meetingId, loading);
+        long[] participants = meetingParticipantMapper.findUserIdsByMeetingId(meetingId).stream()
+                .mapToLong(Long::longValue).sorted().distinct().toArray();
+        meetingParticipants.replace(meetingId, loading, new CachedParticipants(participants));
+        return participants.clone();
+    }
+
+    @Override
+    public void onUserChanged(Long userId) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                reloadUser(userId);
+            } catch (Exception e) {
+                // 索引更新失败不影响业务写入，下一次全量重建时纠正
+                log.warn("Failed to update audience index for user {}", userId, e);
+            }
+            publish(USER_PREFIX + userId);
+        });
+    }
+
+    @Override
+    public void onParticipantsChanged(Long meetingId) {
+        TransactionUtils.afterCommit(() -> {
+            meetingParticipants.remove(meetingId);
+            publish(MEETING_PREFIX + meetingId);
+        });
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(fixedDelayString = "${notification.audience.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        BitSet users = new BitSet();
+        Map<Long, SortedIds> companies = new HashMap<>();
+        Map<Long, Long> memberships = new HashMap<>();
+        try (SqlSession session = sqlSessionFactory.openSession();
+             Cursor<User> cursor = session.getMapper(UserMapper.class).scanActiveUserAudience()) {
+            for (User user : cursor) {
+                users.set(toIndex(user.getId()));
+                if (user.getCompanyId() != null) {
+                    // 游标按ID升序返回，直接追加即保持有序
+                    companies.computeIfAbsent(user.getCompanyId(), id -> new SortedIds()).append(user.getId());
+                    memberships.put(user.getId(), user.getCompanyId());
+                }
+            }
+        } catch (Exception e) {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+            log.error("Failed to rebuild notification audience index", e);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            activeUsers = users;
+            companies.values().forEach(SortedIds::trim);
+            companyUsers = companies;
+            userCompanies.clear();
+            userCompanies.putAll(memberships);
+            rebuilding = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // 扫描期间发生的增量变更可能没有被游标读到，替换后重放一次
+        for (Long userId : changedDuringRebuild) {
+            changedDuringRebuild.remove(userId);
+            reloadUser(userId);
+        }
+        meetingParticipants.clear();
+        lastRebuildAt = LocalDateTime.now();
+        lastRebuildMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        ready = true;
+        log.info("Notification audience index rebuilt: {} active users in {} companies ({} ms)", users.cardinality(), companies.size(), lastRebuildMs);
+    }
+
+    @Override
+    public AudienceIndexMetricsResponse getMetrics() {
+        AudienceIndexMetricsResponse metrics = new AudienceIndexMetricsResponse();
+        long bytes = 0;
+        lock.readLock().lock();
+        try {
+            metrics.setActiveUsers(activeUsers.cardinality());
+            metrics.setCompanies(companyUsers.size());
+            bytes += activeUsers.size() / 8;
+            for (SortedIds users : companyUsers.values()) {
+                bytes += users.bytes();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (CachedParticipants participants : meetingParticipants.values()) {
+            bytes += participants.userIds == null ? 0 : participants.userIds.length * 8L;
+        }
+        metrics.setReady(ready);
+        metrics.setCachedMeetings(meetingParticipants.size());
+        metrics.setBitmapBytes(bytes);
+        metrics.setIncrementalUpdates(incrementalUpdates.sum());
+        metrics.setLastRebuildAt(lastRebuildAt);
+        metrics.setLastRebuildMs(lastRebuildMs);
+        return metrics;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void reloadUser(Long userId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(userId);
+        }
+        User user = userMapper.findActiveUserAudience(userId);
+        int index = toIndex(userId);
+        lock.writeLock().lock();
+        try {
+            Long previousCompanyId = userCompanies.remove(userId);
+            if (previousCompanyId != null) {
+                SortedIds previous = companyUsers.get(previousCompanyId);
+                if (previous != null) {
+                    previous.remove(userId);
+                    if (previous.isEmpty()) {
+                        companyUsers.remove(previousCompanyId);
+                    }
+                }
+            }
+            if (user == null) {
+                activeUsers.clear(index);
+            } else {
+                activeUsers.set(index);
+                if (user.getCompanyId() != null) {
+                    companyUsers.computeIfAbsent(user.getCompanyId(), id -> new SortedIds()).add(userId);
+                    userCompanies.put(userId, user.getCompanyId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        incrementalUpdates.increment();
+    }
+
+    private void publish(String message) {
+        try {
+            RedisUtils.publish(CHANNEL, message);
+        } catch (JedisException e) {
+            // 其他节点会在下一次全量重建时纠正
+            log.warn("Redis unavailable, audience change {} not propagated to other nodes", message, e);
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            JedisPubSub pubSub = new JedisPubSub() {
+                @Override
+                public void onMessage(String channel, String payload) {
+                    try {
+                        if (payload.startsWith(USER_PREFIX)) {
+                            reloadUser(Long.valueOf(payload.substring(USER_PREFIX.length())));
+                        } else if (payload.startsWith(MEETING_PREFIX)) {
+                            meetingParticipants.remove(Long.valueOf(payload.substring(MEETING_PREFIX.length())));
+                        }
+                    } catch (Exception e) {
+                        log.error("Failed to apply audience change {}", payload, e);
+                    }
+                }
+            };
+            relay = pubSub;
+            try {
+                RedisUtils.subscribe(pubSub, CHANNEL);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Audience relay subscription lost, retrying in 5 seconds", e);
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static long[] sortedCopy(long[] userIds) {
+        return userIds == null ? new long[0] : Arrays.stream(userIds).sorted().distinct().toArray();
+    }
+
+    private int toIndex(Long userId) {
+        if (userId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("User id " + userId + " exceeds the audience bitmap range");
+        }
+        return userId.intValue();
+    }
+
+    /**
+     * 会议参会者缓存项，userIds 为 null 时表示正在加载的占位；按引用比较，每次加载的占位互不相等。
+     */
+    private static final class CachedParticipants {
+
+        private final long[] userIds;
+
+        CachedParticipants(long[] userIds) {
+            this.userIds = userIds;
+        }
+    }
+
+    /**
+     * 有序且不重复的用户ID数组，在写锁保护下修改。
+     */
+    private static final class SortedIds {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void append(long id) {
+            ensureCapacity();
+            ids[size++] = id;
+        }
+
+        void add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            int insertAt = -position - 1;
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] copyAfter(long afterId) {
+            int position = Arrays.binarySearch(ids, 0, size, afterId);
+            int from = position >= 0 ? position + 1 : -position - 1;
+            return Arrays.copyOfRange(ids, from, size);
+        }
+
+        /**
+         * 有序合并求差集，other 须为升序
+         */
+        long[] difference(long[] other) {
+            long[] result = new long[size];
+            int count = 0;
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                while (j < other.length && other[j] < ids[i]) {
+                    j++;
+                }
+                if (j == other.length || other[j] != ids[i]) {
+                    result[count++] = ids[i];
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        /**
+         * 有序合并求交集，other 须为升序
+         */
+        long[] intersection(long[] other) {
+            long[] result = new long[Math.min(size, other.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.length) {
+                if (ids[i] < other[j]) {
+                    i++;
+                } else if (ids[i] > other[j]) {
+                    j++;
+                } else {
+                    result[count++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        void trim() {
+            if (ids.length > size) {
+                ids = Arrays.copyOf(ids, size);
+            }
+        }
+
+        long bytes() {
+            return ids.length * 8L;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(4, size + (size >> 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.cspioneer.backend.entity.dto.response.BackfillStatusResponse;
+import tech.cspioneer.backend.mapper.NotificationMapper;
+import tech.cspioneer.backend.service.NotificationBackfillService;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 历史通知的关联对象UUID回填任务。
+ * 按主键区间分批执行带 JOIN 的 UPDATE，每批单独提交，避免长事务和大范围锁；
+ * UPDATE 只处理 related_object_uuid 为空的行，多节点同时执行或重启后从头扫描都是安全的。
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationBackfillServiceImpl implements NotificationBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationBackfillServiceImpl.class);
+
+    private final NotificationMapper notificationMapper;
+
+    @Value("${notification.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notification.backfill.batches-per-run:20}")
+    private int batchesPerRun;
+
+    private volatile long lastNotificationId = 0L;
+    private volatile boolean completed = false;
+    private final LongAdder rowsUpdated = new LongAdder();
+
+    @Override
+    @Scheduled(initialDelayString = "${notification.backfill.initial-delay-ms:30000}", fixedDelayString = "${notification.backfill.interval-ms:5000}")
+    public synchronized void backfillRelatedObjectUuids() {
+        if (!enabled || completed) {
+            return;
+        }
+        try {
+            for (int i = 0; i < batchesPerRun; i++) {
+                Long upToId = notificationMapper.findBackfillUpperBound(lastNotificationId, batchSize);
+                if (upToId == null) {
+                    completed = true;
+                    log.info("Related object uuid backfill completed: {} notifications updated", rowsUpdated.sum());
+                    return;
+                }
+                rowsUpdated.add(notificationMapper.backfillRelatedObjectUuids(lastNotificationId, upToId));
+                lastNotificationId = upToId;
+            }
+        } catch (Exception e) {
+            // 下次调度从当前断点继续
+            log.warn("Related object uuid backfill paused at notification {}", lastNotificationId, e);
+        }
+    }
+
+    @Override
+    public BackfillStatusResponse getStatus() {
+        BackfillStatusResponse response = new BackfillStatusResponse();
+        response.setLastNotificationId(lastNotificationId);
+        response.setRowsUpdated(rowsUpdated.sum());
+        response.setCompleted(completed);
+        Long remaining = notificationMapper.countMissingRelatedObjectUuids();
+        response.setRemainingRows(remaining == null ? 0L : remaining);
+        return response;
+    }
+}
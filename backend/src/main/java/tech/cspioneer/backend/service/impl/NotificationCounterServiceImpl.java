@@ -0,0 +1,202 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+import tech.cspioneer.backend.entity.User;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.mapper.NotificationMapper;
+import tech.cspioneer.backend.service.NotificationCounterService;
+import tech.cspioneer.backend.utils.RedisUtils;
+import tech.cspioneer.backend.utils.TransactionUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 基于 Redis Hash 的通知计数。
+ * 每个用户一个 Hash：unread / total / epoch。epoch 由全员广播版本号和所在公司广播版本号组成，
+ * 发送广播只需自增版本号（O(1)），受众中的用户在下次读取时发现 epoch 不一致再回源 MySQL 重新计数。
+ * 定向通知的分发、已读、删除则直接增减计数。
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationCounterServiceImpl implements NotificationCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationCounterServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String COUNTER_KEY_PREFIX = "notification:counter:";
+    private static final String BROADCAST_VERSION_KEY_PREFIX = "notification:broadcast:version:";
+    private static final String RECONCILE_CURSOR_KEY = "notification:reconcile:cursor";
+    private static final int RECONCILE_SCAN_COUNT = 100;
+    private static final String FIELD_UNREAD = "unread";
+    private static final String FIELD_TOTAL = "total";
+    private static final String FIELD_EPOCH = "epoch";
+
+    private final NotificationMapper notificationMapper;
+
+    @Value("${notification.counter.ttl-seconds:86400}")
+    private int ttlSeconds;
+
+    @Value("${notification.counter.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    @Override
+    public long count(User user, Boolean isRead) {
+        Map<String, String> counter;
+        String epoch;
+        try {
+            counter = RedisUtils.hgetAll(COUNTER_KEY_PREFIX + user.getId(), REDIS_DB);
+            epoch = currentEpoch(user.getCompanyId());
+        } catch (JedisException e) {
+            log.warn("Redis unavailable, counting notifications of user {} from database", user.getId(), e);
+            return notificationMapper.countNotificationsByRecipientId(user.getId(), isRead);
+        }
+
+        long unread;
+        long total;
+        if (epoch.equals(counter.get(FIELD_EPOCH)) && counter.containsKey(FIELD_UNREAD) && counter.containsKey(FIELD_TOTAL)) {
+            unread = Long.parseLong(counter.get(FIELD_UNREAD));
+            total = Long.parseLong(counter.get(FIELD_TOTAL));
+        } else {
+            unread = notificationMapper.countUnreadNotificationsByRecipientId(user.getId());
+            total = notificationMapper.countNotificationsByRecipientId(user.getId(), null);
+            try {
+                RedisUtils.hsetAll(COUNTER_KEY_PREFIX + user.getId(), Map.of(
+                        FIELD_UNREAD, String.valueOf(unread),
+                        FIELD_TOTAL, String.valueOf(total),
+                        FIELD_EPOCH, epoch), ttlSeconds, REDIS_DB);
+            } catch (JedisException e) {
+                log.warn("Failed to cache notification counter of user {}", user.getId(), e);
+            }
+        }
+
+        if (isRead == null) {
+            return total;
+        }
+        return isRead ? Math.max(total - unread, 0) : Math.max(unread, 0);
+    }
+
+    @Override
+    public void onDelivered(Collection<Long> recipientIds) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = recipientIds.stream().map(id -> COUNTER_KEY_PREFIX + id).collect(Collectors.toList());
+        // 只修改已缓存的计数，未缓存的用户在下次读取时回源
+        updateAfterCommit(() -> RedisUtils.hincrByAllIfExists(keys, Map.of(FIELD_UNREAD, 1L, FIELD_TOTAL, 1L), REDIS_DB));
+    }
+
+    @Override
+    public void onBroadcast(FanoutAudience audience, Long audienceId) {
+        updateAfterCommit(() -> RedisUtils.incr(broadcastVersionKey(audience, audienceId), REDIS_DB));
+    }
+
+    @Override
+    public void onRead(Long recipientId, int count) {
+        if (count <= 0) {
+            return;
+        }
+        updateAfterCommit(() -> RedisUtils.hincrByAllIfExists(List.of(COUNTER_KEY_PREFIX + recipientId),
+                Map.of(FIELD_UNREAD, (long) -count), REDIS_DB));
+    }
+
+    @Override
+    public void onAllRead(Long recipientId) {
+        updateAfterCommit(() -> RedisUtils.hsetIfExists(COUNTER_KEY_PREFIX + recipientId, FIELD_UNREAD, "0", REDIS_DB));
+    }
+
+    @Override
+    public void onDeleted(Long recipientId, boolean wasUnread) {
+        Map<String, Long> increments = wasUnread ? Map.of(FIELD_TOTAL, -1L, FIELD_UNREAD, -1L) : Map.of(FIELD_TOTAL, -1L);
+        updateAfterCommit(() -> RedisUtils.hincrByAllIfExists(List.of(COUNTER_KEY_PREFIX + recipientId), increments, REDIS_DB));
+    }
+
+    @Override
+    public void invalidate(Long recipientId) {
+        updateAfterCommit(() -> RedisUtils.del(COUNTER_KEY_PREFIX + recipientId, REDIS_DB));
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(fixedDelayString = "${notification.counter.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        int checked = 0;
+        int corrected = 0;
+        try {
+            // 每次从上次保存的游标继续扫描，多次调度后覆盖全部计数；一轮结束游标回到 0 重新开始
+            String cursor = RedisUtils.get(RECONCILE_CURSOR_KEY, REDIS_DB);
+            if (cursor == null) {
+                cursor = ScanParams.SCAN_POINTER_START;
+            }
+            do {
+                ScanResult<String> page = RedisUtils.scan(cursor, COUNTER_KEY_PREFIX + "*", RECONCILE_SCAN_COUNT, REDIS_DB);
+                for (String key : page.getResult()) {
+                    if (reconcileKey(key)) {
+                        corrected++;
+                    }
+                    checked++;
+                }
+                cursor = page.getCursor();
+                RedisUtils.set(RECONCILE_CURSOR_KEY, cursor, ttlSeconds, REDIS_DB);
+            } while (!ScanParams.SCAN_POINTER_START.equals(cursor) && checked < reconcileBatchSize);
+        } catch (JedisException e) {
+            log.warn("Redis unavailable, notification counter reconciliation stopped after {} counters", checked, e);
+        }
+        if (corrected > 0) {
+            log.info("Notification counter reconciliation corrected {} of {} counters", corrected, checked);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private boolean reconcileKey(String key) {
+        Long recipientId = Long.valueOf(key.substring(COUNTER_KEY_PREFIX.length()));
+        long unread = notificationMapper.countUnreadNotificationsByRecipientId(recipientId);
+        long total = notificationMapper.countNotificationsByRecipientId(recipientId, null);
+        Map<String, String> counter = RedisUtils.hgetAll(key, REDIS_DB);
+        if (String.valueOf(unread).equals(counter.get(FIELD_UNREAD)) && String.valueOf(total).equals(counter.get(FIELD_TOTAL))) {
+            return false;
+        }
+        // 保留原 epoch：若期间有新广播，读取时仍会回源
+        RedisUtils.hsetAll(key, Map.of(FIELD_UNREAD, String.valueOf(unread), FIELD_TOTAL, String.valueOf(total)), ttlSeconds, REDIS_DB);
+        return true;
+    }
+
+    private String currentEpoch(Long companyId) {
+        List<String> versions = RedisUtils.mget(REDIS_DB,
+                broadcastVersionKey(FanoutAudience.ALL, null),
+                broadcastVersionKey(FanoutAudience.COMPANY, companyId));
+        return versions.get(0) + ":" + versions.get(1);
+    }
+
+    private String broadcastVersionKey(FanoutAudience audience, Long audienceId) {
+        return audience == FanoutAudience.ALL
+                ? BROADCAST_VERSION_KEY_PREFIX + audience.name()
+                : BROADCAST_VERSION_KEY_PREFIX + audience.name() + ":" + audienceId;
+    }
+
+    /**
+     * 在当前事务提交后更新计数，避免回滚的写入污染计数；没有事务时立即执行。
+     * Redis 故障只记录日志，漂移由过期和定时对账修正。
+     */
+    private void updateAfterCommit(Runnable update) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                update.run();
+            } catch (JedisException e) {
+                log.warn("Failed to update notification counter in Redis", e);
+            }
+        });
+    }
+}
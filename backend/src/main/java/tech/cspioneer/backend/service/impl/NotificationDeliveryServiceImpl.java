@@ -0,0 +1,114 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.cspioneer.backend.entity.Notification;
+import tech.cspioneer.backend.entity.NotificationRecipient;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+import tech.cspioneer.backend.mapper.NotificationMapper;
+import tech.cspioneer.backend.service.NotificationCounterService;
+import tech.cspioneer.backend.service.NotificationDeliveryService;
+import tech.cspioneer.backend.service.NotificationFanoutService;
+import tech.cspioneer.backend.service.NotificationPushService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationDeliveryServiceImpl implements NotificationDeliveryService {
+
+    private final NotificationMapper notificationMapper;
+    private final NotificationFanoutService notificationFanoutService;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationPushService notificationPushService;
+
+    @Value("${notification.broadcast.fan-out-on-read:true}")
+    private boolean broadcastOnRead;
+
+    /**
+     * 内部核心方法：创建通知并分发给指定的接收者列表
+     */
+    @Override
+    @Transactional
+    public void deliverToRecipients(String notificationUuid, List<Long> recipientIds, String title, String content, RelatedObjectType objectType, Long objectId) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return; // 没有接收者，直接返回
+        }
+
+        // 1. 创建通知主体
+        Notification notification = buildSystemNotification(notificationUuid, title, content, objectType, objectId);
+        notificationMapper.insertNotification(notification);
+
+        // 2. 创建接收人列表
+        List<NotificationRecipient> recipients = new ArrayList<>();
+        for (Long recipientId : recipientIds) {
+            NotificationRecipient recipient = NotificationRecipient.builder()
+                    .notificationId(notification.getId())
+                    .recipientId(recipientId)
+                    .isRead(false)
+                    .isDeleted(false)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            recipients.add(recipient);
+        }
+
+        // 3. 批量插入接收人记录
+        // 在实际生产中，如果recipients列表非常大，需要考虑分批插入
+        notificationMapper.batchInsertNotificationRecipients(recipients);
+        notificationCounterService.onDelivered(recipientIds);
+        notificationPushService.publishToRecipients(recipientIds, notification);
+    }
+
+    @Override
+    public void deliverToCompany(String notificationUuid, Long companyId, String title, String content, RelatedObjectType objectType, Long objectId) {
+        Notification notification = buildSystemNotification(notificationUuid, title, content, objectType, objectId);
+        if (broadcastOnRead) {
+            insertBroadcastNotification(notification, FanoutAudience.COMPANY, companyId);
+            return;
+        }
+        // 分发引擎自行管理分批事务，这里不能再包一层大事务
+        notificationFanoutService.fanOut(notification, FanoutAudience.COMPANY, companyId);
+    }
+
+    @Override
+    public void deliverToAll(String notificationUuid, String title, String content, RelatedObjectType objectType, Long objectId) {
+        Notification notification = buildSystemNotification(notificationUuid, title, content, objectType, objectId);
+        if (broadcastOnRead) {
+            insertBroadcastNotification(notification, FanoutAudience.ALL, null);
+            return;
+        }
+        notificationFanoutService.fanOut(notification, FanoutAudience.ALL, null);
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * 广播模式：只写入一行带受众范围的通知，接收人的状态在读取时合并
+     */
+    private void insertBroadcastNotification(Notification notification, FanoutAudience audience, Long audienceId) {
+        notification.setAudience(audience);
+        notification.setAudienceId(audienceId);
+        notificationMapper.insertNotification(notification);
+        notificationCounterService.onBroadcast(audience, audienceId);
+        notificationPushService.publishBroadcast(notification);
+    }
+
+    private Notification buildSystemNotification(String notificationUuid, String title, String content, RelatedObjectType objectType, Long objectId) {
+        return Notification.builder()
+                .uuid(notificationUuid)
+                .senderId(null) // null 表示系统发送
+                .title(title)
+                .content(content)
+                .type(null) // 可根据业务细化
+                .relatedObjectType(objectType)
+                .relatedObjectId(objectId)
+                .relatedObjectUuid(objectType != null && objectId != null ? notificationMapper.findRelatedObjectUuid(objectType, objectId) : null)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
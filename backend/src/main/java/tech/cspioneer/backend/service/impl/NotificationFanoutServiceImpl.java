@@ -0,0 +1,210 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.cspioneer.backend.entity.Notification;
+import tech.cspioneer.backend.entity.NotificationFanoutJob;
+import tech.cspioneer.backend.entity.dto.response.FanoutMetricsResponse;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.entity.enums.FanoutJobStatus;
+import tech.cspioneer.backend.mapper.NotificationFanoutJobMapper;
+import tech.cspioneer.backend.mapper.NotificationMapper;
+import tech.cspioneer.backend.mapper.UserMapper;
+import tech.cspioneer.backend.service.NotificationAudienceService;
+import tech.cspioneer.backend.service.NotificationCounterService;
+import tech.cspioneer.backend.service.NotificationFanoutService;
+import tech.cspioneer.backend.service.NotificationPushService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.StreamSupport;
+
+/**
+ * 公司/全员通知的分发引擎。
+ * 接收人ID通过 MyBatis 游标从独立连接中流式读取，按 batch-size 分批写入，
+ * 每 commit-interval 个批次提交一次事务并记录断点，节点崩溃后可由其他节点从断点继续。
+ * 受众索引就绪时接收人直接取自内存位图，不再查询 user 表。
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationFanoutServiceImpl implements NotificationFanoutService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFanoutServiceImpl.class);
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationMapper notificationMapper;
+    private final NotificationFanoutJobMapper fanoutJobMapper;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationAudienceService notificationAudienceService;
+
+    @Value("${notification.fanout.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.fanout.commit-interval:4}")
+    private int commitInterval;
+
+    @Value("${notification.fanout.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Value("${notification.fanout.max-attempts:3}")
+    private int maxAttempts;
+
+    private final LongAdder recipientsWritten = new LongAdder();
+    private final LongAdder batchesWritten = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final LongAdder jobsCompleted = new LongAdder();
+    private final LongAdder jobsFailed = new LongAdder();
+
+    @Override
+    public void fanOut(Notification notification, FanoutAudience audience, Long audienceId) {
+        // 通知主体与分发任务在同一事务中创建，保证任务一定能找到其通知
+        NotificationFanoutJob job = transactionTemplate.execute(status -> {
+            notificationMapper.insertNotification(notification);
+            NotificationFanoutJob newJob = NotificationFanoutJob.builder()
+                    .notificationId(notification.getId())
+                    .audience(audience)
+                    .audienceId(audienceId)
+                    .lastRecipientId(0L)
+                    .processedCount(0L)
+                    .status(FanoutJobStatus.RUNNING)
+                    .attempts(0)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            fanoutJobMapper.insert(newJob);
+            return newJob;
+        });
+        runJob(job);
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(fixedDelayString = "${notification.fanout.resume-interval-ms:60000}")
+    public void resumeStalledJobs() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        for (NotificationFanoutJob job : fanoutJobMapper.findStalledJobs(staleBefore, 10)) {
+            if (fanoutJobMapper.claimStalledJob(job.getId(), staleBefore) == 0) {
+                continue; // 已被其他节点认领
+            }
+            if (job.getAttempts() + 1 > maxAttempts) {
+                log.error("Fan-out job {} for notification {} exceeded {} attempts, marking as failed", job.getId(), job.getNotificationId(), maxAttempts);
+                fanoutJobMapper.updateStatus(job.getId(), FanoutJobStatus.FAILED.name());
+                jobsFailed.increment();
+                continue;
+            }
+            log.info("Resuming fan-out job {} for notification {} after recipient {}", job.getId(), job.getNotificationId(), job.getLastRecipientId());
+            runJob(job);
+        }
+    }
+
+    @Override
+    public FanoutMetricsResponse getMetrics() {
+        FanoutMetricsResponse metrics = new FanoutMetricsResponse();
+        long written = recipientsWritten.sum();
+        long nanos = writeNanos.sum();
+        metrics.setRecipientsWritten(written);
+        metrics.setBatchesWritten(batchesWritten.sum());
+        metrics.setJobsCompleted(jobsCompleted.sum());
+        metrics.setJobsFailed(jobsFailed.sum());
+        metrics.setRecipientsPerSecond(nanos == 0 ? 0 : written * 1_000_000_000.0 / nanos);
+        metrics.setRunningJobs(fanoutJobMapper.countRunningJobs());
+        LocalDateTime oldest = fanoutJobMapper.findOldestRunningJobCreatedAt();
+        metrics.setLagSeconds(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).getSeconds());
+        return metrics;
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * 从任务的断点开始流式读取接收人并分批写入。
+     * 出现异常时任务保持 RUNNING，由 resumeStalledJobs 在超时后重新认领。
+     */
+    private void runJob(NotificationFanoutJob job) {
+        Notification notification = notificationMapper.findNotificationById(job.getNotificationId());
+        SqlSession session = null;
+        Cursor<Long> cursor = null;
+        try {
+            PrimitiveIterator.OfLong recipientIds;
+            if (notificationAudienceService.isReady()) {
+                // 受众索引已就绪时直接遍历索引快照中断点之后的用户
+                recipientIds = notificationAudienceService
+                        .audience(job.getAudience(), job.getAudienceId(), job.getLastRecipientId()).iterator();
+            } else {
+                session = sqlSessionFactory.openSession();
+                cursor = openRecipientCursor(session, job);
+                recipientIds = StreamSupport.stream(cursor.spliterator(), false).mapToLong(Long::longValue).iterator();
+            }
+            List<Long> batch = new ArrayList<>(batchSize);
+            while (recipientIds.hasNext()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    long committed = 0;
+                    for (int i = 0; i < commitInterval && recipientIds.hasNext(); i++) {
+                        batch.clear();
+                        while (batch.size() < batchSize && recipientIds.hasNext()) {
+                            batch.add(recipientIds.nextLong());
+                        }
+                        long start = System.nanoTime();
+                        int inserted = notificationMapper.batchInsertRecipientIds(job.getNotificationId(), batch, LocalDateTime.now());
+                        if (inserted == batch.size()) {
+                            notificationCounterService.onDelivered(new ArrayList<>(batch));
+                        } else {
+                            // 断点重放时部分接收人行已存在（INSERT IGNORE 跳过），无法区分哪些是新写入的，让这批用户的计数回源
+                            batch.forEach(notificationCounterService::invalidate);
+                        }
+                        notificationPushService.publishToRecipients(batch, notification);
+                        writeNanos.add(System.nanoTime() - start);
+                        batchesWritten.increment();
+                        committed += inserted;
+                        job.setLastRecipientId(batch.get(batch.size() - 1));
+                    }
+                    fanoutJobMapper.updateCheckpoint(job.getId(), job.getLastRecipientId(), committed);
+                    recipientsWritten.add(committed);
+                });
+            }
+            fanoutJobMapper.updateStatus(job.getId(), FanoutJobStatus.COMPLETED.name());
+            jobsCompleted.increment();
+        } catch (Exception e) {
+            log.error("Fan-out job {} for notification {} interrupted at recipient {}", job.getId(), job.getNotificationId(), job.getLastRecipientId(), e);
+        } finally {
+            closeQuietly(cursor);
+            if (session != null) {
+                session.close();
+            }
+        }
+    }
+
+    private Cursor<Long> openRecipientCursor(SqlSession session, NotificationFanoutJob job) {
+        UserMapper userMapper = session.getMapper(UserMapper.class);
+        if (job.getAudience() == FanoutAudience.COMPANY) {
+            return userMapper.scanActiveUserIdsByCompanyId(job.getAudienceId(), job.getLastRecipientId());
+        }
+        return userMapper.scanActiveUserIds(job.getLastRecipientId());
+    }
+
+    private void closeQuietly(Cursor<Long> cursor) {
+        if (cursor == null) {
+            return;
+        }
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            log.warn("Failed to close recipient cursor", e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package tech.cspioneer.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.cspioneer.backend.entity.NotificationOutbox;
+import tech.cspioneer.backend.entity.dto.response.OutboxMetricsResponse;
+import tech.cspioneer.backend.entity.enums.OutboxStatus;
+import tech.cspioneer.backend.entity.enums.OutboxTargetType;
+import tech.cspioneer.backend.entity.enums.RelatedObjectType;
+import tech.cspioneer.backend.mapper.NotificationMapper;
+import tech.cspioneer.backend.mapper.NotificationOutboxMapper;
+import tech.cspioneer.backend.service.NotificationAudienceService;
+import tech.cspioneer.backend.service.NotificationDeliveryService;
+import tech.cspioneer.backend.service.NotificationOutboxService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 通知事务性 outbox。
+ * 业务方法只在自己的事务里写入一行 outbox，提交后由定时分发器按租约认领、分发，
+ * 失败时指数退避重试。通知UUID在写入 outbox 时生成，分发前先按UUID检查，重复认领不会产生重复通知。
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationOutboxServiceImpl.class);
+
+    private static final String NODE_ID = UUID.randomUUID().toString();
+
+    private final NotificationOutboxMapper outboxMapper;
+    private final NotificationMapper notificationMapper;
+    private final NotificationAudienceService notificationAudienceService;
+    private final NotificationDeliveryService notificationDeliveryService;
+
+    @Value("${notification.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${notification.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.base-backoff-ms:2000}")
+    private long baseBackoffMs;
+
+    @Value("${notification.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    private final LongAdder dispatchedEvents = new LongAdder();
+    private final LongAdder retriedEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder totalLatencyMs = new LongAdder();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+
+    @Override
+    @Transactional
+    public void enqueue(OutboxTargetType targetType, Long targetId, String title, String content, RelatedObjectType objectType, Long objectId) {
+        NotificationOutbox event = NotificationOutbox.builder()
+                .notificationUuid(UUID.randomUUID().toString())
+                .targetType(targetType)
+                .targetId(targetId)
+                .title(title)
+                .content(content)
+                .relatedObjectType(objectType)
+                .relatedObjectId(objectId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+        outboxMapper.insert(event);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        // TIMESTAMP 列只保留到秒，租约时间同样截断到秒才能按值查回本次认领的事件
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds).withNano(0);
+        if (outboxMapper.claimBatch(NODE_ID, leaseUntil, batchSize) == 0) {
+            return;
+        }
+        List<NotificationOutbox> events = outboxMapper.findClaimed(NODE_ID, leaseUntil);
+        for (NotificationOutbox event : events) {
+            dispatch(event);
+        }
+    }
+
+    @Override
+    public OutboxMetricsResponse getMetrics() {
+        OutboxMetricsResponse metrics = new OutboxMetricsResponse();
+        long dispatched = dispatchedEvents.sum();
+        metrics.setPendingEvents(outboxMapper.countPending());
+        LocalDateTime oldest = outboxMapper.findOldestPendingCreatedAt();
+        metrics.setOldestPendingAgeSeconds(oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).getSeconds());
+        metrics.setDispatchedEvents(dispatched);
+        metrics.setRetriedEvents(retriedEvents.sum());
+        metrics.setFailedEvents(failedEvents.sum());
+        metrics.setAverageDispatchLatencyMs(dispatched == 0 ? 0 : totalLatencyMs.sum() / dispatched);
+        metrics.setMaxDispatchLatencyMs(maxLatencyMs.get());
+        return metrics;
+    }
+
+    // --- Private Helper Methods ---
+
+    private void dispatch(NotificationOutbox event) {
+        try {
+            // 上次分发成功但未来得及标记时，通知已存在，直接标记即可
+            if (notificationMapper.findNotificationByUuid(event.getNotificationUuid()) == null) {
+                deliver(event);
+            }
+            outboxMapper.markDispatched(event.getId());
+            long latency = Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis();
+            dispatchedEvents.increment();
+            totalLatencyMs.add(latency);
+            maxLatencyMs.accumulateAndGet(latency, Math::max);
+        } catch (Exception e) {
+            int attempts = event.getAttempts() + 1;
+            String error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            if (error.length() > 500) {
+                error = error.substring(0, 500);
+            }
+            if (attempts >= maxAttempts) {
+                log.error("Outbox event {} failed after {} attempts, giving up", event.getId(), attempts, e);
+                outboxMapper.markFailed(event.getId(), error);
+                failedEvents.increment();
+            } else {
+                long backoffMs = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+                log.warn("Outbox event {} failed (attempt {}), retrying in {} ms", event.getId(), attempts, backoffMs, e);
+                outboxMapper.markRetry(event.getId(), LocalDateTime.now().plusNanos(backoffMs * 1_000_000), error);
+                retriedEvents.increment();
+            }
+        }
+    }
+
+    private void deliver(NotificationOutbox event) {
+        switch (event.getTargetType()) {
+            case COMPANY -> notificationDeliveryService.deliverToCompany(event.getNotificationUuid(), event.getTargetId(),
+                    event.getTitle(), event.getContent(), event.getRelatedObjectType(), event.getRelatedObjectId());
+            case ALL -> notificationDeliveryService.deliverToAll(event.getNotificationUuid(),
+                    event.getTitle(), event.getContent(), event.getRelatedObjectType(), event.getRelatedObjectId());
+            case MEETING -> notificationDeliveryService.deliverToRecipients(event.getNotificationUuid(),
+                    Arrays.stream(notificationAudienceService.approvedParticipants(event.getTargetId())).boxed().toList(),
+                    event.getTitle(), event.getContent(), event.getRelatedObjectType(), event.getRelatedObjectId());
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package tech.cspioneer.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.entity.Notification;
+import tech.cspioneer.backend.entity.User;
+import tech.cspioneer.backend.entity.dto.response.NotificationResponse;
+import tech.cspioneer.backend.entity.dto.response.PushMetricsResponse;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.service.NotificationPushService;
+import tech.cspioneer.backend.utils.RedisUtils;
+import tech.cspioneer.backend.utils.TransactionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 通知实时推送 (Server-Sent Events)。
+ * 每个节点维护 userId -> 连接 的注册表；所有推送先发布到 Redis 频道，
+ * 每个节点（包括发布者自己）收到后只投递给本节点上的连接，Redis 不可用时退化为仅本节点投递。
+ * 每个连接有一个有界缓冲区，由 pushExecutor 异步写出，慢客户端只会丢弃自己的事件而不会阻塞发布者。
+ */
+@Service
+@DependsOn("redisUtils")
+public class NotificationPushServiceImpl implements NotificationPushService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPushServiceImpl.class);
+
+    private static final String CHANNEL = "notification:push";
+    private static final Object HEARTBEAT = new Object();
+
+    private final ObjectMapper objectMapper;
+    private final Executor pushExecutor;
+
+    @Value("${notification.push.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${notification.push.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong connectedClients = new AtomicLong();
+    private final LongAdder deliveredEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private volatile boolean running;
+    private volatile JedisPubSub relay;
+
+    public NotificationPushServiceImpl(ObjectMapper objectMapper, @Qualifier("pushExecutor") Executor pushExecutor) {
+        this.objectMapper = objectMapper;
+        this.pushExecutor = pushExecutor;
+    }
+
+    @PostConstruct
+    public void startRelay() {
+        running = true;
+        Thread relayThread = new Thread(this::relayLoop, "notification-push-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+    }
+
+    @PreDestroy
+    public void stopRelay() {
+        running = false;
+        JedisPubSub current = relay;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(User user) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(user.getId(), user.getCompanyId(), emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.computeIfAbsent(user.getId(), id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connectedClients.incrementAndGet();
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+        return emitter;
+    }
+
+    @Override
+    public void publishToRecipients(Collection<Long> recipientIds, Notification notification) {
+        if (recipientIds == null || recipientIds.isEmpty()) {
+            return;
+        }
+        PushMessage message = new PushMessage(new ArrayList<>(recipientIds), null, null, toResponse(notification));
+        TransactionUtils.afterCommit(() -> publish(message));
+    }
+
+    @Override
+    public void publishBroadcast(Notification notification) {
+        PushMessage message = new PushMessage(null, notification.getAudience(), notification.getAudienceId(), toResponse(notification));
+        TransactionUtils.afterCommit(() -> publish(message));
+    }
+
+    @Override
+    public PushMetricsResponse getMetrics() {
+        PushMetricsResponse metrics = new PushMetricsResponse();
+        metrics.setConnectedClients(connectedClients.get());
+        metrics.setConnectedUsers(subscribers.size());
+        metrics.setDeliveredEvents(deliveredEvents.sum());
+        metrics.setDroppedEvents(droppedEvents.sum());
+        return metrics;
+    }
+
+    /**
+     * 定时心跳，防止代理和移动网络断开空闲连接；缓冲区已满时跳过本次心跳
+     */
+    @Scheduled(fixedDelayString = "${notification.push.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                if (subscriber.buffer.offer(HEARTBEAT)) {
+                    scheduleDrain(subscriber);
+                }
+            }
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void publish(PushMessage message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize push message for notification {}", message.getNotification().getUuid(), e);
+            return;
+        }
+        try {
+            RedisUtils.publish(CHANNEL, payload);
+        } catch (JedisException e) {
+            log.warn("Redis unavailable, delivering notification {} to local subscribers only", message.getNotification().getUuid(), e);
+            deliverLocally(message);
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            JedisPubSub pubSub = new JedisPubSub() {
+                @Override
+                public void onMessage(String channel, String payload) {
+                    try {
+                        deliverLocally(objectMapper.readValue(payload, PushMessage.class));
+                    } catch (Exception e) {
+                        log.error("Failed to handle push message from channel {}", channel, e);
+                    }
+                }
+            };
+            relay = pubSub;
+            try {
+                RedisUtils.subscribe(pubSub, CHANNEL);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Push relay subscription lost, retrying in 5 seconds", e);
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void deliverLocally(PushMessage message) {
+        NotificationResponse event = message.getNotification();
+        if (message.getRecipientIds() != null) {
+            for (Long recipientId : message.getRecipientIds()) {
+                Set<Subscriber> userSubscribers = subscribers.get(recipientId);
+                if (userSubscribers != null) {
+                    userSubscribers.forEach(subscriber -> enqueue(subscriber, event));
+                }
+            }
+            return;
+        }
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                if (message.getAudience() == FanoutAudience.ALL
+                        || Objects.equals(message.getAudienceId(), subscriber.companyId)) {
+                    enqueue(subscriber, event);
+                }
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, NotificationResponse event) {
+        if (!subscriber.buffer.offer(event)) {
+            droppedEvents.increment();
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return; // 已有线程在写出该连接的缓冲区
+        }
+        try {
+            pushExecutor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            // 事件仍在缓冲区中，下一次入队时会重新调度
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Object event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                if (event == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event().name("notification").data(event));
+                    deliveredEvents.increment();
+                }
+            }
+        } catch (Exception e) {
+            // 客户端已断开
+            unregister(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.buffer.isEmpty()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        Set<Subscriber> userSubscribers = subscribers.get(subscriber.userId);
+        if (userSubscribers != null && userSubscribers.remove(subscriber)) {
+            connectedClients.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.userId, (id, remaining) -> remaining.isEmpty() ? null : remaining);
+        }
+    }
+
+    private NotificationResponse toResponse(Notification notification) {
+        NotificationResponse response = new NotificationResponse();
+        response.setUuid(notification.getUuid());
+        response.setTitle(notification.getTitle());
+        response.setContent(notification.getContent());
+        response.setType(notification.getType());
+        response.setRelatedObjectType(notification.getRelatedObjectType());
+        response.setRelatedObjectUuid(notification.getRelatedObjectUuid());
+        response.setCreatedAt(notification.getCreatedAt());
+        response.setRead(false);
+        return response;
+    }
+
+    private static class Subscriber {
+        private final Long userId;
+        private final Long companyId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private Subscriber(Long userId, Long companyId, SseEmitter emitter, BlockingQueue<Object> buffer) {
+            this.userId = userId;
+            this.companyId = companyId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * 节点间转发的推送消息：recipientIds 为空时按 audience 广播
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PushMessage {
+        private List<Long> recipientIds;
+        private FanoutAudience audience;
+        private Long audienceId;
+        private NotificationResponse notification;
+    }
+}
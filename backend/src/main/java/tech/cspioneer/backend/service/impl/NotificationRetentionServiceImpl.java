@@ -0,0 +1,145 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.cspioneer.backend.entity.NotificationRecipient;
+import tech.cspioneer.backend.entity.dto.response.RetentionStatusResponse;
+import tech.cspioneer.backend.mapper.NotificationArchiveMapper;
+import tech.cspioneer.backend.service.NotificationCounterService;
+import tech.cspioneer.backend.service.NotificationRetentionService;
+import tech.cspioneer.backend.utils.ThrottledBatchRunner;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 通知保留策略。
+ * 定向通知的接收人行超过保留期后，由 ThrottledBatchRunner 按批次复制到 notification_recipient_archive 并从热表删除，
+ * 避免长事务和对在线写入的挤占。
+ * 开启 partitioned 后归档表按月分区，任务会自动拆出所需月份的分区，并按 archive-retention-months 整月删除过期分区。
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionServiceImpl.class);
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUNDARY_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final NotificationArchiveMapper notificationArchiveMapper;
+    private final NotificationCounterService notificationCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Environment environment;
+
+    @Value("${notification.retention.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${notification.retention.partitioned:false}")
+    private boolean partitioned;
+
+    @Value("${notification.retention.archive-retention-months:0}")
+    private int archiveRetentionMonths;
+
+    private ThrottledBatchRunner runner;
+
+    @PostConstruct
+    public void init() {
+        runner = new ThrottledBatchRunner(environment, "notification.retention", 1000, 200);
+    }
+
+    @Override
+    @Async("batchJobExecutor")
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public synchronized void archiveExpired() {
+        if (!runner.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        if (partitioned) {
+            try {
+                maintainPartitions(cutoff);
+            } catch (Exception e) {
+                log.warn("Notification archive partition maintenance failed, skipping this run", e);
+                return;
+            }
+        }
+        long archived = runner.run(batchSize -> archiveBatch(cutoff, batchSize));
+        if (archived > 0) {
+            log.info("Archived {} notification recipient rows older than {}", archived, cutoff);
+        }
+    }
+
+    @Override
+    public RetentionStatusResponse getStatus() {
+        RetentionStatusResponse response = new RetentionStatusResponse();
+        response.setRetentionDays(retentionDays);
+        response.setRowsArchived(runner.getRowsMoved());
+        response.setBatchesRun(runner.getBatchesRun());
+        response.setLastRunAt(runner.getLastRunAt());
+        response.setLastRunArchived(runner.getLastRunMoved());
+        response.setLastRunDurationMs(runner.getLastRunDurationMs());
+        response.setPartitioned(partitioned);
+        return response;
+    }
+
+    // --- Private Helper Methods ---
+
+    private int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<NotificationRecipient> expired = notificationArchiveMapper.findExpiredRecipients(cutoff, batchSize);
+            if (expired.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = expired.stream().map(NotificationRecipient::getId).toList();
+            notificationArchiveMapper.copyToArchive(ids);
+            int deleted = notificationArchiveMapper.deleteRecipients(ids);
+            // 归档改变了这些用户收件箱的总数与未读数，让计数回源
+            Set<Long> recipientIds = expired.stream().map(NotificationRecipient::getRecipientId).collect(Collectors.toSet());
+            recipientIds.forEach(notificationCounterService::invalidate);
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /**
+     * 保证截止时间所在月份之前的分区都已存在，并删除超出归档保留期的整月分区
+     */
+    private void maintainPartitions(LocalDateTime cutoff) {
+        List<String> partitions = notificationArchiveMapper.findArchivePartitionNames();
+        if (partitions.isEmpty()) {
+            log.warn("notification.retention.partitioned is on but notification_recipient_archive is not partitioned");
+            return;
+        }
+        YearMonth target = YearMonth.from(cutoff);
+        YearMonth latest = partitions.stream()
+                .filter(name -> !"p_max".equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_FORMAT))
+                .max(YearMonth::compareTo)
+                .orElse(target.minusMonths(1));
+        for (YearMonth month = latest.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            String boundary = month.plusMonths(1).atDay(1).atStartOfDay().format(BOUNDARY_FORMAT);
+            notificationArchiveMapper.addArchivePartition(month.format(PARTITION_FORMAT), boundary);
+        }
+        if (archiveRetentionMonths > 0) {
+            YearMonth oldestKept = YearMonth.from(cutoff).minusMonths(archiveRetentionMonths);
+            for (String name : partitions) {
+                if (!"p_max".equals(name) && YearMonth.parse(name, PARTITION_FORMAT).isBefore(oldestKept)) {
+                    notificationArchiveMapper.dropArchivePartition(name);
+                    log.info("Dropped notification archive partition {}", name);
+                }
+            }
+        }
+    }
+}
@@ -1,27 +1,39 @@
 package tech.cspioneer.backend.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import redis.clients.jedis.exceptions.JedisException;
 import tech.cspioneer.backend.entity.Notification;
-import tech.cspioneer.backend.entity.NotificationRecipient;
+import tech.cspioneer.backend.entity.enums.FanoutAudience;
+import tech.cspioneer.backend.entity.enums.OutboxTargetType;
 import tech.cspioneer.backend.entity.enums.RelatedObjectType;
 import tech.cspioneer.backend.entity.User;
 import tech.cspioneer.backend.entity.dto.response.NotificationResponse;
 import tech.cspioneer.backend.exception.ResourceNotFoundException;
-import tech.cspioneer.backend.mapper.MeetingParticipantMapper;
 import tech.cspioneer.backend.mapper.NotificationMapper;
 import tech.cspioneer.backend.mapper.UserMapper;
+import tech.cspioneer.backend.service.NotificationCounterService;
+import tech.cspioneer.backend.service.NotificationDeliveryService;
+import tech.cspioneer.backend.service.NotificationOutboxService;
+import tech.cspioneer.backend.service.NotificationPushService;
 import tech.cspioneer.backend.service.NotificationService;
+import tech.cspioneer.backend.utils.RedisUtils;
+import tech.cspioneer.backend.utils.TransactionUtils;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -29,12 +41,31 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final Logger log = LoggerFactory.getLogger(NotificationServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String DETAIL_CACHE_KEY_PREFIX = "notification:detail:";
+    private static final String DETAIL_CACHE_EXPIRY_SEPARATOR = "|";
+
     private final NotificationMapper notificationMapper;
     private final UserMapper userMapper;
-    private final MeetingParticipantMapper meetingParticipantMapper;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationDeliveryService notificationDeliveryService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.detail-cache.ttl-seconds:60}")
+    private int detailCacheTtlSeconds;
+
+    @Value("${notification.batch.max-size:5000}")
+    private int batchMaxSize;
+
+    @Value("${notification.batch.chunk-size:1000}")
+    private int batchChunkSize;
 
     @Override
-    public Page<NotificationResponse> getNotificationsByUserUuid(String userUuid, String status, int page, int size) {
+    public Page<NotificationResponse> getNotificationsByUserUuid(String userUuid, String status, int page, int size, boolean includeArchived) {
         User user = getUserByUuid(userUuid);
         PageRequest pageRequest = PageRequest.of(page, size);
 
@@ -44,27 +75,61 @@ public class NotificationServiceImpl implements NotificationService {
             default -> null; // "all"
         };
 
-        long total = notificationMapper.countNotificationsByRecipientId(user.getId(), isRead);
+        if (includeArchived) {
+            // 历史查询较少，直接查库，不走计数缓存
+            long total = notificationMapper.countNotificationHistoryByRecipientId(user.getId(), isRead);
+            List<NotificationResponse> notifications = notificationMapper.findNotificationHistoryByRecipientId(
+                    user.getId(), isRead, (int) pageRequest.getOffset(), pageRequest.getPageSize());
+            return new PageImpl<>(notifications, pageRequest, total);
+        }
+
+        long total = notificationCounterService.count(user, isRead);
         List<NotificationResponse> notifications = notificationMapper.findNotificationsByRecipientId(
                 user.getId(), isRead, (int) pageRequest.getOffset(), pageRequest.getPageSize());
 
         return new PageImpl<>(notifications, pageRequest, total);
     }
 
+    @Override
+    public SseEmitter subscribe(String userUuid) {
+        return notificationPushService.subscribe(getUserByUuid(userUuid));
+    }
+
+    @Override
+    public long getUnreadCount(String userUuid) {
+        return notificationCounterService.count(getUserByUuid(userUuid), false);
+    }
+
     @Override
     public NotificationResponse getNotificationDetails(String notificationUuid, String userUuid) {
-        // This method can be improved by adding a direct mapper query
-        // that fetches the details and verifies ownership in one go.
-        // For now, we do it in two steps.
-        User user = getUserByUuid(userUuid);
-        Notification notification = getNotificationByUuid(notificationUuid);
+        String cacheKey = DETAIL_CACHE_KEY_PREFIX + userUuid;
+        try {
+            // 每条详情前缀自己的过期时间：写入任何一条都会刷新整个 Hash 的 TTL，过期的条目按未命中处理
+            String cached = RedisUtils.hget(cacheKey, notificationUuid, REDIS_DB);
+            if (cached != null) {
+                int separator = cached.indexOf(DETAIL_CACHE_EXPIRY_SEPARATOR);
+                if (separator > 0 && Long.parseLong(cached.substring(0, separator)) > System.currentTimeMillis()) {
+                    return objectMapper.readValue(cached.substring(separator + 1), NotificationResponse.class);
+                }
+                RedisUtils.hdel(cacheKey, notificationUuid, REDIS_DB);
+            }
+        } catch (JedisException | JsonProcessingException | NumberFormatException e) {
+            log.warn("Notification detail cache unavailable for user {}", userUuid, e);
+        }
 
-        // A more efficient query could do this in the database.
-        Page<NotificationResponse> userNotifications = getNotificationsByUserUuid(userUuid, "all", 0, 1);
-        return userNotifications.stream()
-                .filter(n -> n.getUuid().equals(notificationUuid))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("Notification not found or you do not have permission to view it."));
+        NotificationResponse notification = notificationMapper.findNotificationDetail(notificationUuid, userUuid);
+        if (notification == null) {
+            throw new ResourceNotFoundException("Notification not found or you do not have permission to view it.");
+        }
+
+        try {
+            long expiresAt = System.currentTimeMillis() + detailCacheTtlSeconds * 1000L;
+            String entry = expiresAt + DETAIL_CACHE_EXPIRY_SEPARATOR + objectMapper.writeValueAsString(notification);
+            RedisUtils.hsetAll(cacheKey, Map.of(notificationUuid, entry), detailCacheTtlSeconds, REDIS_DB);
+        } catch (JedisException | JsonProcessingException e) {
+            log.warn("Failed to cache notification detail for user {}", userUuid, e);
+        }
+        return notification;
     }
 
     @Override
@@ -72,20 +137,29 @@ public class NotificationServiceImpl implements NotificationService {
     public void markNotificationAsRead(String notificationUuid, String userUuid) {
         User user = getUserByUuid(userUuid);
         Notification notification = getNotificationByUuid(notificationUuid);
-        notificationMapper.markAsRead(notification.getId(), user.getId());
+        markAsRead(notification, user);
+        evictDetailCache(userUuid);
     }
 
     @Override
     @Transactional
-    public void markNotificationsAsRead(List<String> notificationUuids, String userUuid) {
+    public int markNotificationsAsRead(List<String> notificationUuids, String userUuid) {
         User user = getUserByUuid(userUuid);
-        // This is not the most efficient way for batch operations.
-        // A single UPDATE query with a WHERE IN clause would be better.
-        // For simplicity, we iterate here.
-        for (String uuid : notificationUuids) {
-            Notification notification = getNotificationByUuid(uuid);
-            notificationMapper.markAsRead(notification.getId(), user.getId());
+        int directRead = 0;
+        int broadcastRead = 0;
+        // 每个分片两条语句：更新已有的定向接收人行，再为广播通知补写已读覆盖行
+        for (List<String> chunk : partitionBatch(notificationUuids)) {
+            directRead += notificationMapper.markAsReadByUuids(user.getId(), chunk);
+            broadcastRead += notificationMapper.insertBroadcastReadByUuids(user.getId(), chunk);
+        }
+        notificationCounterService.onRead(user.getId(), directRead);
+        if (broadcastRead > 0) {
+            notificationCounterService.invalidate(user.getId());
+        }
+        if (directRead + broadcastRead > 0) {
+            evictDetailCache(userUuid);
         }
+        return directRead + broadcastRead;
     }
 
     @Override
@@ -93,6 +167,9 @@ public class NotificationServiceImpl implements NotificationService {
     public void markAllNotificationsAsRead(String userUuid) {
         User user = getUserByUuid(userUuid);
         notificationMapper.markAllAsRead(user.getId());
+        notificationMapper.advanceReadWatermark(user.getId());
+        notificationCounterService.onAllRead(user.getId());
+        evictDetailCache(userUuid);
     }
 
 
@@ -102,30 +179,54 @@ public class NotificationServiceImpl implements NotificationService {
     public void deleteNotification(String notificationUuid, String userUuid) {
         User user = getUserByUuid(userUuid);
         Notification notification = getNotificationByUuid(notificationUuid);
-        notificationMapper.softDelete(notification.getId(), user.getId());
+        if (notification.getAudience() == null) {
+            boolean wasUnread = notificationMapper.isUnread(notification.getId(), user.getId());
+            if (notificationMapper.softDelete(notification.getId(), user.getId()) > 0) {
+                notificationCounterService.onDeleted(user.getId(), wasUnread);
+            }
+        } else {
+            checkBroadcastAudience(notification, user);
+            notificationMapper.upsertBroadcastDelete(notification.getId(), user.getId());
+            // 广播通知删除前的已读状态取决于覆盖行和水位，直接让计数回源
+            notificationCounterService.invalidate(user.getId());
+        }
+        evictDetailCache(userUuid);
+    }
+
+    @Override
+    @Transactional
+    public int deleteNotifications(List<String> notificationUuids, String userUuid) {
+        User user = getUserByUuid(userUuid);
+        int deleted = 0;
+        for (List<String> chunk : partitionBatch(notificationUuids)) {
+            deleted += notificationMapper.softDeleteByUuids(user.getId(), chunk);
+            deleted += notificationMapper.insertBroadcastDeleteByUuids(user.getId(), chunk);
+        }
+        if (deleted > 0) {
+            // 批量删除前的已读状态不逐条查询，直接让计数回源
+            notificationCounterService.invalidate(user.getId());
+            evictDetailCache(userUuid);
+        }
+        return deleted;
     }
 
     @Override
     @Transactional
     public void sendSystemNotificationToUser(Long recipientId, String title, String content, RelatedObjectType objectType, Long objectId) {
         List<Long> recipientIds = Collections.singletonList(recipientId);
-        createAndDistributeNotification(recipientIds, title, content, objectType, objectId);
+        notificationDeliveryService.deliverToRecipients(UUID.randomUUID().toString(), recipientIds, title, content, objectType, objectId);
     }
 
-    @Async("taskExecutor") // 使用自定义的线程池执行异步任务
     @Override
-    @Transactional
+    @Transactional // 写入 outbox，与调用方的业务变更同一事务提交
     public void sendSystemNotificationToCompany(Long companyId, String title, String content, RelatedObjectType objectType, Long objectId) {
-        List<Long> recipientIds = userMapper.findActiveUserIdsByCompanyId(companyId);
-        createAndDistributeNotification(recipientIds, title, content, objectType, objectId);
+        notificationOutboxService.enqueue(OutboxTargetType.COMPANY, companyId, title, content, objectType, objectId);
     }
 
-    @Async("taskExecutor") // 使用自定义的线程池执行异步任务
     @Override
-    @Transactional
+    @Transactional // 写入 outbox，与调用方的业务变更同一事务提交
     public void sendSystemNotificationToAll(String title, String content, RelatedObjectType objectType, Long objectId) {
-        List<Long> recipientIds = userMapper.findAllActiveUserIds();
-        createAndDistributeNotification(recipientIds, title, content, objectType, objectId);
+        notificationOutboxService.enqueue(OutboxTargetType.ALL, null, title, content, objectType, objectId);
     }
 
     // --- Private Helper Methods ---
@@ -147,42 +248,62 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * 内部核心方法：创建通知并分发给指定的接收者列表
+     * 已读状态或可见性变化后，在事务提交后清除该用户的通知详情缓存
      */
-    private void createAndDistributeNotification(List<Long> recipientIds, String title, String content, RelatedObjectType objectType, Long objectId) {
-        if (recipientIds == null || recipientIds.isEmpty()) {
-            return; // 没有接收者，直接返回
-        }
-
-        // 1. 创建通知主体
-        Notification notification = Notification.builder()
-                .uuid(UUID.randomUUID().toString())
-                .senderId(null) // null 表示系统发送
-                .title(title)
-                .content(content)
-                .type(null) // 可根据业务细化
-                .relatedObjectType(objectType)
-                .relatedObjectId(objectId)
-                .createdAt(LocalDateTime.now())
-                .build();
-        notificationMapper.insertNotification(notification);
-
-        // 2. 创建接收人列表
-        List<NotificationRecipient> recipients = new ArrayList<>();
-        for (Long recipientId : recipientIds) {
-            NotificationRecipient recipient = NotificationRecipient.builder()
-                    .notificationId(notification.getId())
-                    .recipientId(recipientId)
-                    .isRead(false)
-                    .isDeleted(false)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            recipients.add(recipient);
-        }
-
-        // 3. 批量插入接收人记录
-        // 在实际生产中，如果recipients列表非常大，需要考虑分批插入
-        notificationMapper.batchInsertNotificationRecipients(recipients);
+    private void evictDetailCache(String userUuid) {
+        TransactionUtils.afterCommit(() -> {
+            try {
+                RedisUtils.del(DETAIL_CACHE_KEY_PREFIX + userUuid, REDIS_DB);
+            } catch (JedisException e) {
+                // 缓存 TTL 很短，清除失败时最多读到 TTL 内的旧状态
+                log.warn("Failed to evict notification detail cache of user {}", userUuid, e);
+            }
+        });
+    }
+
+    /**
+     * 批量操作的UUID去重后按 batch.chunk-size 分片，控制单条语句 IN 列表的长度
+     */
+    private List<List<String>> partitionBatch(List<String> notificationUuids) {
+        if (notificationUuids == null || notificationUuids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> distinct = notificationUuids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() > batchMaxSize) {
+            throw new IllegalArgumentException("At most " + batchMaxSize + " notifications can be processed per request.");
+        }
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += batchChunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + batchChunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 单条通知标记已读：定向通知更新接收人行，广播通知写入覆盖行
+     */
+    private void markAsRead(Notification notification, User user) {
+        if (notification.getAudience() == null) {
+            if (notificationMapper.markAsRead(notification.getId(), user.getId()) > 0) {
+                notificationCounterService.onRead(user.getId(), 1);
+            }
+        } else {
+            checkBroadcastAudience(notification, user);
+            notificationMapper.upsertBroadcastRead(notification.getId(), user.getId());
+            notificationCounterService.invalidate(user.getId());
+        }
+    }
+
+    /**
+     * 校验用户属于广播通知的受众，避免为无关用户写入覆盖行
+     */
+    private void checkBroadcastAudience(Notification notification, User user) {
+        boolean inScope = notification.getAudience() == FanoutAudience.ALL
+                || Objects.equals(notification.getAudienceId(), user.getCompanyId());
+        boolean receivedAfterJoin = user.getCreatedAt() == null || !notification.getCreatedAt().isBefore(user.getCreatedAt());
+        if (!inScope || !receivedAfterJoin) {
+            throw new ResourceNotFoundException("Notification not found or you do not have permission to view it.");
+        }
     }
 
     @Override
@@ -193,11 +314,9 @@ public class NotificationServiceImpl implements NotificationService {
         return new PageImpl<>(notifications, pageRequest, total);
     }
 
-    @Async("taskExecutor")
     @Override
-    @Transactional
+    @Transactional // 写入 outbox，与调用方的业务变更同一事务提交
     public void sendSystemNotificationToMeetingParticipants(Long meetingId, String title, String content) {
-        List<Long> recipientIds = meetingParticipantMapper.findUserIdsByMeetingId(meetingId);
-        createAndDistributeNotification(recipientIds, title, content, RelatedObjectType.MEETING, meetingId);
+        notificationOutboxService.enqueue(OutboxTargetType.MEETING, meetingId, title, content, RelatedObjectType.MEETING, meetingId);
     }
 }
@@ -14,6 +14,7 @@ import tech.cspioneer.backend.exception.UserManagementException;
 import tech.cspioneer.backend.mapper.RootUserManagementMapper;
 import tech.cspioneer.backend.mapper.UserMapper;
 import tech.cspioneer.backend.model.response.PagedResponse;
+import tech.cspioneer.backend.service.NotificationAudienceService;
 import tech.cspioneer.backend.service.RootUserManagementService;
 import tech.cspioneer.backend.utils.UuidUtils;
 
@@ -28,6 +29,7 @@ public class RootUserManagementServiceImpl implements RootUserManagementService
     private final RootUserManagementMapper rootUserManagementMapper;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final NotificationAudienceService notificationAudienceService;
 
     @Override
     public PagedResponse<UserResponse> getAllUsers(int page, int size, RootUserSearchRequest request) {
@@ -71,6 +73,7 @@ public class RootUserManagementServiceImpl implements RootUserManagementService
         user.setUpdatedAt(LocalDateTime.now());
 
         userMapper.insert(user);
+        notificationAudienceService.onUserChanged(user.getId());
 
         UserResponse userResponse = new UserResponse();
         BeanUtils.copyProperties(user, userResponse);
@@ -88,6 +91,7 @@ public class RootUserManagementServiceImpl implements RootUserManagementService
         user.setUpdatedAt(LocalDateTime.now());
 
         userMapper.update(user);
+        notificationAudienceService.onUserChanged(user.getId());
 
         UserResponse userResponse = new UserResponse();
         BeanUtils.copyProperties(user, userResponse);
@@ -99,5 +103,6 @@ public class RootUserManagementServiceImpl implements RootUserManagementService
         User user = Optional.ofNullable(userMapper.findByUuid(uuid))
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with UUID: " + uuid));
         userMapper.deleteByUuid(uuid);
+        notificationAudienceService.onUserChanged(user.getId());
     }
 }
@@ -0,0 +1,135 @@
+package tech.cspioneer.backend.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.exceptions.JedisException;
+import tech.cspioneer.backend.entity.dto.response.DailyUniqueViewers;
+import tech.cspioneer.backend.entity.dto.response.UniqueViewersResponse;
+import tech.cspioneer.backend.entity.enums.ViewerItemType;
+import tech.cspioneer.backend.service.ViewerAnalyticsService;
+import tech.cspioneer.backend.utils.RedisUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 新闻/课程独立访客统计。
+ * 每个对象每天一个 Redis HyperLogLog (analytics:uv:{type}:{uuid}:{yyyyMMdd})，单个键最多约 12KB，
+ * 按 retention-days 过期，因此每个对象占用的内存有固定上限，与访问量无关。
+ * 浏览记录先在内存中按键去重缓冲，定时用 pipeline 批量 PFADD；缓冲总量超过 buffer-max 时丢弃新的记录，
+ * 统计结果最多滞后一个刷新周期。区间独立访客数由 PFCOUNT 对多日键做合并估计。
+ */
+@Service
+public class ViewerAnalyticsServiceImpl implements ViewerAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewerAnalyticsServiceImpl.class);
+
+    private static final int REDIS_DB = 0;
+    private static final String KEY_PREFIX = "analytics:uv:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    @Value("${analytics.viewers.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${analytics.viewers.buffer-max:200000}")
+    private int bufferMax;
+
+    // 键 -> 待写入的浏览者UUID；只在 compute 内修改，与 flush 的 remove 互斥
+    private final ConcurrentHashMap<String, Set<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    public void recordView(ViewerItemType itemType, String itemUuid, String viewerUuid) {
+        if (itemUuid == null || viewerUuid == null) {
+            return;
+        }
+        if (buffered.get() >= bufferMax) {
+            dropped.increment();
+            return;
+        }
+        pending.compute(key(itemType, itemUuid, LocalDate.now()), (key, viewers) -> {
+            Set<String> set = viewers == null ? new HashSet<>() : viewers;
+            if (set.add(viewerUuid)) {
+                buffered.incrementAndGet();
+            }
+            return set;
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.viewers.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<String, Set<String>> batch = new HashMap<>();
+        for (String key : pending.keySet()) {
+            Set<String> viewers = pending.remove(key);
+            if (viewers != null) {
+                batch.put(key, viewers);
+                buffered.addAndGet(-viewers.size());
+            }
+        }
+        try {
+            RedisUtils.pfaddAll(batch, (retentionDays + 1) * 24 * 3600, REDIS_DB);
+        } catch (JedisException e) {
+            // 统计是近似的，Redis 不可用时丢弃这一批，不影响业务请求
+            log.warn("Failed to flush unique viewers for {} keys", batch.size(), e);
+        }
+        long droppedViews = dropped.sumThenReset();
+        if (droppedViews > 0) {
+            log.warn("Dropped {} views because the unique viewer buffer was full", droppedViews);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    @Override
+    public UniqueViewersResponse getUniqueViewers(ViewerItemType itemType, String itemUuid, int days) {
+        int span = Math.max(1, Math.min(days, retentionDays));
+        LocalDate today = LocalDate.now();
+        List<LocalDate> dates = new ArrayList<>(span);
+        List<String> keys = new ArrayList<>(span);
+        for (int i = span - 1; i >= 0; i--) {
+            LocalDate date = today.minusDays(i);
+            dates.add(date);
+            keys.add(key(itemType, itemUuid, date));
+        }
+        List<Long> counts = RedisUtils.pfcountEach(keys, REDIS_DB);
+        List<DailyUniqueViewers> daily = new ArrayList<>(span);
+        for (int i = 0; i < span; i++) {
+            daily.add(new DailyUniqueViewers(dates.get(i), counts.get(i)));
+        }
+
+        UniqueViewersResponse response = new UniqueViewersResponse();
+        response.setItemType(itemType.name());
+        response.setItemUuid(itemUuid);
+        response.setDays(span);
+        response.setUniqueViewers(RedisUtils.pfcount(REDIS_DB, keys.toArray(new String[0])));
+        response.setDaily(daily);
+        return response;
+    }
+
+    // --- Private Helper Methods ---
+
+    private static String key(ViewerItemType itemType, String itemUuid, LocalDate date) {
+        return KEY_PREFIX + itemType.name().toLowerCase() + ":" + itemUuid + ":" + date.format(DAY_FORMAT);
+    }
+}
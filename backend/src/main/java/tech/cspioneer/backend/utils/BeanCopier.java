@@ -0,0 +1,191 @@
+package tech.cspioneer.backend.utils;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.FatalBeanException;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 预编译的属性拷贝器，供 CopyTools 使用。
+ * 每对 (源类型, 目标类型) 只解析一次可拷贝的属性，并用 LambdaMetafactory 为无参构造器和每对 getter/setter
+ * 生成直接调用的函数对象，之后的拷贝不再经过反射与属性描述符查找。
+ * 属性匹配规则与 Spring BeanUtils.copyProperties 一致：同名、源可读、目标可写、类型可赋值（含装箱/拆箱）。
+ * 类或方法不是 public、或不在本类的类加载器中可见时，该项退回到 MethodHandle 调用。
+ */
+final class BeanCopier<S, T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Class<?>, BeanCopier<?, ?>>> COPIERS =
+            new ConcurrentHashMap<>();
+
+    private final Supplier<T> constructor;
+    private final PropertyCopier[] properties;
+
+    private BeanCopier(Class<S> sourceClass, Class<T> targetClass) {
+        this.constructor = constructor(targetClass);
+        List<PropertyCopier> copiers = new ArrayList<>();
+        for (PropertyDescriptor targetPd : BeanUtils.getPropertyDescriptors(targetClass)) {
+            Method writeMethod = targetPd.getWriteMethod();
+            if (writeMethod == null) {
+                continue;
+            }
+            PropertyDescriptor sourcePd = BeanUtils.getPropertyDescriptor(sourceClass, targetPd.getName());
+            Method readMethod = sourcePd == null ? null : sourcePd.getReadMethod();
+            if (readMethod != null && isAssignable(readMethod, writeMethod)) {
+                copiers.add(new PropertyCopier(targetPd.getName(), getter(readMethod), setter(writeMethod)));
+            }
+        }
+        this.properties = copiers.toArray(new PropertyCopier[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <S, T> BeanCopier<S, T> of(Class<S> sourceClass, Class<T> targetClass) {
+        return (BeanCopier<S, T>) COPIERS.computeIfAbsent(sourceClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetClass, key -> new BeanCopier<>(sourceClass, targetClass));
+    }
+
+    T copy(S source) {
+        T target = constructor.get();
+        for (PropertyCopier property : properties) {
+            property.copy(source, target);
+        }
+        return target;
+    }
+
+    // --- Private Helper Methods ---
+
+    // 与 BeanUtils.copyProperties 相同的可赋值判断
+    private static boolean isAssignable(Method readMethod, Method writeMethod) {
+        ResolvableType sourceType = ResolvableType.forMethodReturnType(readMethod);
+        ResolvableType targetType = ResolvableType.forMethodParameter(writeMethod, 0);
+        if (sourceType.hasUnresolvableGenerics() || targetType.hasUnresolvableGenerics()) {
+            return ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType());
+        }
+        return targetType.isAssignableFrom(sourceType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> constructor(Class<T> targetClass) {
+        try {
+            Constructor<T> ctor = targetClass.getDeclaredConstructor();
+            if (isDirectlyCallable(targetClass, ctor.getModifiers())) {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                        MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class),
+                        LOOKUP.unreflectConstructor(ctor),
+                        MethodType.methodType(targetClass));
+                return (Supplier<T>) site.getTarget().invokeExact();
+            }
+        } catch (NoSuchMethodException e) {
+            // 没有无参构造器时由 BeanUtils 抛出 BeanInstantiationException
+        } catch (Throwable e) {
+            // 生成失败时退回到 BeanUtils
+        }
+        return () -> BeanUtils.instantiateClass(targetClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method readMethod) {
+        Class<?> declaringClass = readMethod.getDeclaringClass();
+        try {
+            if (isDirectlyCallable(declaringClass, readMethod.getModifiers())) {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        LOOKUP.unreflect(readMethod),
+                        MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(readMethod.getReturnType()),
+                                declaringClass));
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            }
+        } catch (Throwable e) {
+            // 生成失败时退回到 MethodHandle
+        }
+        ReflectionUtils.makeAccessible(readMethod);
+        MethodHandle handle = unreflect(readMethod).asType(MethodType.methodType(Object.class, Object.class));
+        return source -> {
+            try {
+                return (Object) handle.invokeExact(source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new FatalBeanException("Could not read property via " + readMethod, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method writeMethod) {
+        Class<?> declaringClass = writeMethod.getDeclaringClass();
+        try {
+            if (isDirectlyCallable(declaringClass, writeMethod.getModifiers())) {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        LOOKUP.unreflect(writeMethod),
+                        MethodType.methodType(void.class, declaringClass,
+                                ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0])));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            }
+        } catch (Throwable e) {
+            // 生成失败时退回到 MethodHandle
+        }
+        ReflectionUtils.makeAccessible(writeMethod);
+        MethodHandle handle = unreflect(writeMethod)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new FatalBeanException("Could not write property via " + writeMethod, e);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new FatalBeanException("Could not access " + method, e);
+        }
+    }
+
+    // 生成的函数对象定义在本类的类加载器中，只能直接调用对其可见的 public 成员
+    private static boolean isDirectlyCallable(Class<?> declaringClass, int modifiers) {
+        return Modifier.isPublic(modifiers) && Modifier.isPublic(declaringClass.getModifiers())
+                && ClassUtils.isVisible(declaringClass, BeanCopier.class.getClassLoader());
+    }
+
+    private record PropertyCopier(String name, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+
+        void copy(Object source, Object target) {
+            try {
+                setter.accept(target, getter.apply(source));
+            } catch (FatalBeanException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // 与 BeanUtils 一致，例如 null 写入基本类型属性
+                throw new FatalBeanException("Could not copy property '" + name + "' from source to target", e);
+            }
+        }
+    }
+}
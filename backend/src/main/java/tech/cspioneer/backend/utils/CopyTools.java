@@ -1,34 +1,25 @@
 package tech.cspioneer.backend.utils;
 
-import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 对象属性拷贝。每对 (源类型, 目标类型) 的拷贝器在首次使用时生成并缓存，见 {@link BeanCopier}
+ */
 public class CopyTools {
     public static <T, S> List<T> copyList(List<S> sList, Class<T> classz) {
-        List<T> list = new ArrayList<T>();
+        List<T> list = new ArrayList<T>(sList.size());
         for (S s : sList) {
-            T t = null;
-            try {
-                t = classz.newInstance();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-            BeanUtils.copyProperties(s, t);
-            list.add(t);
+            list.add(copy(s, classz));
         }
         return list;
     }
 
+    @SuppressWarnings("unchecked")
     public static <T, S> T copy(S s, Class<T> classz) {
-        T t = null;
-        try {
-            t = classz.newInstance();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        BeanUtils.copyProperties(s, t);
-        return t;
+        Assert.notNull(s, "Source must not be null");
+        return BeanCopier.of((Class<S>) s.getClass(), classz).copy(s);
     }
-}
\ No newline at end of file
+}
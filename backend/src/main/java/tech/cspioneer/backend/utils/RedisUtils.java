@@ -11,9 +11,14 @@ import redis.clients.jedis.*;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.params.ZParams;
 import redis.clients.jedis.resps.ScanResult;
 import redis.clients.jedis.util.Pool;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -39,6 +44,16 @@ public class RedisUtils {
     private static int timeout;
     
     private static Pool<Jedis> jedisPool;
+
+    // EXISTS 与 HINCRBY/HSET 在同一脚本内原子执行，避免为已过期的键创建缺少其他字段和 TTL 的 Hash
+    private static final String HINCRBY_IF_EXISTS_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "return 1";
+    private static final String HSET_IF_EXISTS_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "return 1";
     
     @PostConstruct
     public void init() {
@@ -178,6 +193,159 @@ public class RedisUtils {
         }
     }
 
+    // 对 Hash 字段做原子自增
+    public static long hincrBy(String key, String field, long delta, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.hincrBy(key, field, delta);
+        }
+    }
+
+    // 使用 pipeline 对多个已存在的 Hash 的相同字段做自增，一次网络往返；不存在的键保持不存在
+    public static void hincrByAllIfExists(Collection<String> keys, Map<String, Long> increments, int dbIndex) {
+        List<String> args = new ArrayList<>(increments.size() * 2);
+        for (Map.Entry<String, Long> increment : increments.entrySet()) {
+            args.add(increment.getKey());
+            args.add(String.valueOf(increment.getValue()));
+        }
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Pipeline pipeline = jedis.pipelined();
+            for (String key : keys) {
+                pipeline.eval(HINCRBY_IF_EXISTS_SCRIPT, List.of(key), args);
+            }
+            pipeline.sync();
+        }
+    }
+
+    // 仅在 Hash 已存在时设置字段
+    public static void hsetIfExists(String key, String field, String value, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            jedis.eval(HSET_IF_EXISTS_SCRIPT, List.of(key), List.of(field, value));
+        }
+    }
+
+    // 设置多个 Hash 字段并设置过期时间
+    public static void hsetAll(String key, Map<String, String> fields, int seconds, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Pipeline pipeline = jedis.pipelined();
+            pipeline.hset(key, fields);
+            pipeline.expire(key, seconds);
+            pipeline.sync();
+        }
+    }
+
+    // 原子自增一个键
+    public static long incr(String key, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.incr(key);
+        }
+    }
+
+    // 批量获取多个键
+    public static List<String> mget(int dbIndex, String... keys) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.mget(keys);
+        }
+    }
+
+    // 从指定游标按模式扫描一页键，返回结果中的游标为 "0" 时表示已遍历完整个键空间
+    public static ScanResult<String> scan(String cursor, String pattern, int count, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.scan(cursor, new ScanParams().match(pattern).count(count));
+        }
+    }
+
+    // 使用 pipeline 对有序集合的多个成员加分，一次网络往返
+    public static void zincrByAll(String key, Map<String, Double> increments, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Pipeline pipeline = jedis.pipelined();
+            for (Map.Entry<String, Double> increment : increments.entrySet()) {
+                pipeline.zincrby(key, increment.getValue(), increment.getKey());
+            }
+            pipeline.sync();
+        }
+    }
+
+    // 按分数从高到低获取有序集合的成员
+    public static List<String> zrevrange(String key, long start, long stop, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.zrevrange(key, start, stop);
+        }
+    }
+
+    // 将有序集合所有成员的分数乘以 factor，并只保留分数最高的 keep 个成员
+    public static void zscaleAndTrim(String key, double factor, long keep, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Transaction transaction = jedis.multi();
+            transaction.zunionstore(key, new ZParams().weights(factor), key);
+            transaction.zremrangeByRank(key, 0, -(keep + 1));
+            transaction.exec();
+        }
+    }
+
+    // 只保留有序集合中分数最高的 keep 个成员
+    public static void ztrim(String key, long keep, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            jedis.zremrangeByRank(key, 0, -(keep + 1));
+        }
+    }
+
+    // 键不存在时设置值和过期时间，返回是否设置成功
+    public static boolean setIfAbsent(String key, String value, int seconds, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return "OK".equals(jedis.set(key, value, SetParams.setParams().nx().ex(seconds)));
+        }
+    }
+
+    // 使用 pipeline 向多个 HyperLogLog 添加元素并刷新过期时间，一次网络往返
+    public static void pfaddAll(Map<String, ? extends Collection<String>> elements, int seconds, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Pipeline pipeline = jedis.pipelined();
+            for (Map.Entry<String, ? extends Collection<String>> entry : elements.entrySet()) {
+                pipeline.pfadd(entry.getKey(), entry.getValue().toArray(new String[0]));
+                pipeline.expire(entry.getKey(), seconds);
+            }
+            pipeline.sync();
+        }
+    }
+
+    // 多个 HyperLogLog 合并后的基数估计
+    public static long pfcount(int dbIndex, String... keys) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            return jedis.pfcount(keys);
+        }
+    }
+
+    // 使用 pipeline 分别获取多个 HyperLogLog 的基数估计，顺序与 keys 一致
+    public static List<Long> pfcountEach(List<String> keys, int dbIndex) {
+        try (Jedis jedis = getJedis(dbIndex)) {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> responses = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                responses.add(pipeline.pfcount(key));
+            }
+            pipeline.sync();
+            List<Long> counts = new ArrayList<>(keys.size());
+            for (Response<Long> response : responses) {
+                counts.add(response.get());
+            }
+            return counts;
+        }
+    }
+
+    // 发布消息到频道
+    public static void publish(String channel, String message) {
+        try (Jedis jedis = getJedis(0)) {
+            jedis.publish(channel, message);
+        }
+    }
+
+    // 订阅频道，阻塞当前线程直到 pubSub 取消订阅或连接断开
+    public static void subscribe(JedisPubSub pubSub, String... channels) {
+        try (Jedis jedis = getJedis(0)) {
+            jedis.subscribe(pubSub, channels);
+        }
+    }
+
     // 删除指定用户名的键值对
     public static void deleteByValue(String expectedUsername, int dbIndex) {
         try (Jedis jedis = getJedis(dbIndex)) {
@@ -0,0 +1,114 @@
+package tech.cspioneer.backend.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 分批搬移历史数据的执行器，供归档类定时任务共用。
+ * 每一批由调用方的回调处理（通常在自己的事务中完成复制与删除）并返回处理的行数；
+ * 某批不满 batch-size 或达到 max-batches-per-run 时结束本轮，批次之间暂停 pause-ms。
+ * 配置读取 {prefix}.enabled / batch-size / max-batches-per-run / pause-ms，
+ * 并记录累计与最近一轮的统计供状态接口展示。
+ */
+public class ThrottledBatchRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ThrottledBatchRunner.class);
+
+    /**
+     * 单批处理回调
+     */
+    @FunctionalInterface
+    public interface Batch {
+
+        /**
+         * 处理一批数据
+         *
+         * @param batchSize 批次大小
+         * @return 本批处理的行数，小于 batchSize 表示已无更多数据
+         */
+        int run(int batchSize);
+    }
+
+    private final String name;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long pauseMs;
+
+    private volatile long rowsMoved;
+    private volatile long batchesRun;
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunMoved;
+    private volatile long lastRunDurationMs;
+
+    public ThrottledBatchRunner(Environment environment, String prefix, int defaultBatchSize, int defaultMaxBatchesPerRun) {
+        this.name = prefix;
+        this.enabled = environment.getProperty(prefix + ".enabled", Boolean.class, true);
+        this.batchSize = environment.getProperty(prefix + ".batch-size", Integer.class, defaultBatchSize);
+        this.maxBatchesPerRun = environment.getProperty(prefix + ".max-batches-per-run", Integer.class, defaultMaxBatchesPerRun);
+        this.pauseMs = environment.getProperty(prefix + ".pause-ms", Long.class, 200L);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 执行一轮分批处理；出错时停止本轮，已提交的批次不受影响，下次调度继续
+     *
+     * @param batch 单批处理回调
+     * @return 本轮处理的总行数
+     */
+    public synchronized long run(Batch batch) {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long moved = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int count = batch.run(batchSize);
+                moved += count;
+                rowsMoved += count;
+                batchesRun++;
+                if (count < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Batch job {} stopped after {} rows", name, moved, e);
+        } finally {
+            lastRunAt = startedAt;
+            lastRunMoved = moved;
+            lastRunDurationMs = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+        }
+        return moved;
+    }
+
+    public long getRowsMoved() {
+        return rowsMoved;
+    }
+
+    public long getBatchesRun() {
+        return batchesRun;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+
+    public long getLastRunMoved() {
+        return lastRunMoved;
+    }
+
+    public long getLastRunDurationMs() {
+        return lastRunDurationMs;
+    }
+}
@@ -0,0 +1,31 @@
+package tech.cspioneer.backend.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 事务相关的工具方法。
+ */
+public final class TransactionUtils {
+    private TransactionUtils() {
+    }
+
+    /**
+     * 在当前事务提交后执行，事务回滚时不执行；未开启事务时立即执行。
+     * 用于缓存清除、计数更新、消息推送等不应看到未提交数据的副作用。
+     *
+     * @param action 要执行的操作
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package tech.cspioneer.backend.mapper;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tech.cspioneer.backend.entity.LessonResources;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 课程资源写入基准：逐条 INSERT（原上传/更新路径）与一条多行 INSERT（insertBatch）对比。
+ * 需要一个已执行 schema.sql / migration.sql 的 MySQL 测试库，每次调用在事务内写入后回滚，不留数据。
+ * 运行方式：mvn test-compile 后以测试类路径执行本类的 main 方法，连接参数通过系统属性传入：
+ * -Dbench.jdbc.url=jdbc:mysql://localhost:3306/test_link_hub -Dbench.jdbc.user=root -Dbench.jdbc.password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LessonResourceInsertBenchmark {
+
+    @Param({"20", "200"})
+    private int resourceCount;
+
+    private PooledDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Setup
+    public void setUp() {
+        dataSource = new PooledDataSource("com.mysql.cj.jdbc.Driver",
+                System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/test_link_hub"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(LessonResourceMapper.class);
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    @Benchmark
+    public int perRowInsert() {
+        try (SqlSession session = sqlSessionFactory.openSession(false)) {
+            LessonResourceMapper mapper = session.getMapper(LessonResourceMapper.class);
+            int rows = 0;
+            for (LessonResources resource : resources()) {
+                rows += mapper.insert(resource);
+            }
+            session.rollback(true);
+            return rows;
+        }
+    }
+
+    @Benchmark
+    public int multiRowInsert() {
+        try (SqlSession session = sqlSessionFactory.openSession(false)) {
+            int rows = session.getMapper(LessonResourceMapper.class).insertBatch(resources());
+            session.rollback(true);
+            return rows;
+        }
+    }
+
+    private List<LessonResources> resources() {
+        LocalDateTime now = LocalDateTime.now();
+        List<LessonResources> resources = new ArrayList<>(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            resources.add(LessonResources.builder()
+                    .uuid(UUID.randomUUID().toString())
+                    .lessonVersionId(1L)
+                    .name("资源" + i)
+                    .resourcesUrl("https://example.com/lesson/" + i + ".mp4")
+                    .resourcesType("video")
+                    .sortOrder(i)
+                    .status("active")
+                    .isDeleted(0)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return resources;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LessonResourceInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
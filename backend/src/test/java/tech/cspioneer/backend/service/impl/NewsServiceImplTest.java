@@ -0,0 +1,64 @@
+package tech.cspioneer.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.cspioneer.backend.entity.News;
+import tech.cspioneer.backend.entity.NewsContent;
+import tech.cspioneer.backend.entity.dto.response.NewsListResponse;
+import tech.cspioneer.backend.entity.enums.NewsStatus;
+import tech.cspioneer.backend.mapper.NewsContentMapper;
+import tech.cspioneer.backend.mapper.NewsMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsServiceImplTest {
+
+    @Mock
+    private NewsMapper newsMapper;
+    @Mock
+    private NewsContentMapper newsContentMapper;
+    @InjectMocks
+    private NewsServiceImpl newsService;
+
+    @Test
+    void getAllNewsLoadsPageContentsInOneQuery() {
+        List<News> page = new ArrayList<>();
+        List<NewsContent> contents = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            // 偶数行带待审核版本，奇数行只有已发布版本
+            Long pendingId = i % 2 == 0 ? 1000 + i : null;
+            page.add(News.builder().id(i).uuid("news-" + i).status(NewsStatus.published)
+                    .currentContentId(i).pendingContentId(pendingId).build());
+            long shownId = pendingId != null ? pendingId : i;
+            contents.add(NewsContent.builder().id(shownId).title("title-" + shownId)
+                    .createdAt(LocalDateTime.now()).build());
+        }
+        when(newsMapper.findByCompanyIdWithPagination(isNull(), anyInt(), anyInt())).thenReturn(page);
+        when(newsContentMapper.findByIds(anyList())).thenReturn(contents);
+
+        List<NewsListResponse> result = newsService.getAllNews(1, 50, "admin-uuid", "ADMIN");
+
+        assertEquals(50, result.size());
+        assertEquals("title-1", result.get(0).getTitle());
+        assertEquals("title-1002", result.get(1).getTitle());
+        verify(newsMapper, times(1)).findByCompanyIdWithPagination(isNull(), anyInt(), anyInt());
+        verify(newsContentMapper, times(1)).findByIds(anyList());
+        verify(newsContentMapper, never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,98 @@
+package tech.cspioneer.backend.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanUtils;
+import tech.cspioneer.backend.entity.NewsContent;
+import tech.cspioneer.backend.entity.dto.request.NewsQueryRequest;
+import tech.cspioneer.backend.entity.dto.response.NewsDetailResponse;
+import tech.cspioneer.backend.entity.enums.NewsContentStatus;
+import tech.cspioneer.backend.entity.query.NewsListQuery;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CopyTools 微基准：反射实现（newInstance + BeanUtils.copyProperties）与预编译拷贝器对比。
+ * 运行方式：mvn test-compile 后以测试类路径执行本类的 main 方法
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyToolsBenchmark {
+
+    private NewsContent newsContent;
+    private NewsQueryRequest newsQueryRequest;
+
+    @Setup
+    public void setUp() {
+        newsContent = NewsContent.builder()
+                .id(1L)
+                .uuid("c0a8e2f4-6d1b-4c1e-9a57-2f1d3b7c9e10")
+                .newsId(1L)
+                .title("新闻标题")
+                .summary("新闻摘要")
+                .coverImageUrl("https://example.com/cover.png")
+                .resourceUrl("https://example.com/news.html")
+                .version(1)
+                .status(NewsContentStatus.published)
+                .publisherId(1L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        newsQueryRequest = new NewsQueryRequest();
+        newsQueryRequest.setTitle("标题");
+        newsQueryRequest.setSummary("摘要");
+        newsQueryRequest.setStartTime("2025-01-01 00:00:00");
+        newsQueryRequest.setEndTime("2025-12-31 23:59:59");
+        newsQueryRequest.setPage(1);
+        newsQueryRequest.setPageSize(20);
+        newsQueryRequest.setUserUuid("user-uuid");
+        newsQueryRequest.setIdentity("USER");
+    }
+
+    @Benchmark
+    public NewsDetailResponse newsDetailReflective() throws Exception {
+        return reflectiveCopy(newsContent, NewsDetailResponse.class);
+    }
+
+    @Benchmark
+    public NewsDetailResponse newsDetailPrecompiled() {
+        return CopyTools.copy(newsContent, NewsDetailResponse.class);
+    }
+
+    @Benchmark
+    public NewsListQuery newsListQueryReflective() throws Exception {
+        return reflectiveCopy(newsQueryRequest, NewsListQuery.class);
+    }
+
+    @Benchmark
+    public NewsListQuery newsListQueryPrecompiled() {
+        return CopyTools.copy(newsQueryRequest, NewsListQuery.class);
+    }
+
+    // 原 CopyTools.copy 的实现
+    private static <T> T reflectiveCopy(Object source, Class<T> targetClass) throws Exception {
+        T target = targetClass.getDeclaredConstructor().newInstance();
+        BeanUtils.copyProperties(source, target);
+        return target;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CopyToolsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
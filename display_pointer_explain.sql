@@ -0,0 +1,96 @@
+-- ====================================================================
+-- 列表展示指针对比: JOIN 条件中的 CASE 表达式 (旧) vs display_content_id / display_version_id 生成列 (新)
+-- ====================================================================
+-- 用法 (MySQL 8.0.18+, 需在已执行 migration.sql 的测试库中执行, 会写入约 20 万条新闻与课程):
+--   mysql -u root -p testlinkhub < display_pointer_explain.sql
+-- 数据分布: 每 10 条中 1 条待审核, 其余已发布/已生效; 每条主表记录一个内容版本。
+-- 旧查询无法从内容表一侧通过索引回查主表, 按标题/名称过滤时只能全表扫描主表再逐行计算 CASE;
+-- 新查询可走 idx_*_display_*_id 反向关联, 状态过滤与排序走 (is_deleted, status, created_at/updated_at)。
+-- 对比 EXPLAIN 的 type/key/rows 以及 EXPLAIN ANALYZE 中的 actual time 即可。
+-- ====================================================================
+
+SET SESSION cte_max_recursion_depth = 200000;
+SET @company_id = (SELECT MIN(id) FROM `company`);
+SET @publisher_id = (SELECT MIN(id) FROM `user`);
+
+-- 1. 生成新闻主表与内容版本
+INSERT INTO `news` (`uuid`, `company_id`, `visible`, `status`, `is_deleted`, `created_at`)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200000)
+SELECT CONCAT('bench-', seq.n), @company_id, 1, IF(seq.n % 10 = 0, 'pending', 'published'), 0,
+       NOW() - INTERVAL seq.n SECOND
+FROM seq;
+
+INSERT INTO `news_content` (`uuid`, `news_id`, `title`, `summary`, `version`, `status`, `publisher_id`, `is_deleted`)
+SELECT UUID(), n.id, CONCAT('bench title ', n.id), 'benchmark', 1,
+       IF(n.status = 'pending', 'pending', 'published'), @publisher_id, 0
+FROM `news` n
+WHERE n.uuid LIKE 'bench-%';
+
+UPDATE `news` n JOIN `news_content` nc ON nc.news_id = n.id
+SET n.pending_content_id = IF(n.status = 'pending', nc.id, NULL),
+    n.current_content_id = IF(n.status = 'pending', NULL, nc.id)
+WHERE n.uuid LIKE 'bench-%';
+
+-- 2. 生成课程主表与版本
+INSERT INTO `lesson` (`uuid`, `publisher_id`, `status`, `is_deleted`, `created_at`)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200000)
+SELECT CONCAT('bench-', seq.n), @company_id, IF(seq.n % 10 = 0, 'pending_review', 'active'), 0,
+       NOW() - INTERVAL seq.n SECOND
+FROM seq;
+
+INSERT INTO `lesson_version` (`uuid`, `lesson_id`, `version`, `name`, `status`, `creator_id`, `is_deleted`)
+SELECT UUID(), l.id, 1, CONCAT('bench lesson ', l.id), l.status, @publisher_id, 0
+FROM `lesson` l
+WHERE l.uuid LIKE 'bench-%';
+
+UPDATE `lesson` l JOIN `lesson_version` v ON v.lesson_id = l.id
+SET l.pending_version_id = IF(l.status = 'pending_review', v.id, NULL),
+    l.current_version_id = IF(l.status = 'pending_review', NULL, v.id)
+WHERE l.uuid LIKE 'bench-%';
+
+ANALYZE TABLE `news`, `news_content`, `lesson`, `lesson_version`;
+
+-- 3. 新闻审核列表 (findNewsForAuditList, status = 'pending')
+EXPLAIN
+SELECT n.uuid, nc.title, n.created_at FROM `news` n
+JOIN `news_content` nc ON (CASE WHEN n.status = 'pending' THEN n.pending_content_id ELSE n.current_content_id END) = nc.id
+WHERE n.is_deleted = 0 AND nc.is_deleted = 0 AND n.status = 'pending'
+ORDER BY n.created_at DESC LIMIT 20 OFFSET 0;
+
+EXPLAIN
+SELECT n.uuid, nc.title, n.created_at FROM `news` n
+JOIN `news_content` nc ON nc.id = n.display_content_id
+WHERE n.is_deleted = 0 AND nc.is_deleted = 0 AND n.status = 'pending'
+ORDER BY n.created_at DESC LIMIT 20 OFFSET 0;
+
+-- 4. 新闻列表按标题过滤 (findNewsList)
+EXPLAIN ANALYZE
+SELECT n.uuid, nc.title, n.created_at FROM `news` n
+JOIN `news_content` nc ON (CASE WHEN n.status = 'pending' THEN n.pending_content_id ELSE n.current_content_id END) = nc.id
+WHERE n.is_deleted = 0 AND nc.is_deleted = 0 AND nc.title LIKE 'bench title 1999%'
+ORDER BY n.created_at DESC LIMIT 20 OFFSET 0;
+
+EXPLAIN ANALYZE
+SELECT n.uuid, nc.title, n.created_at FROM `news` n
+JOIN `news_content` nc ON nc.id = n.display_content_id
+WHERE n.is_deleted = 0 AND nc.is_deleted = 0 AND nc.title LIKE 'bench title 1999%'
+ORDER BY n.created_at DESC LIMIT 20 OFFSET 0;
+
+-- 5. 课程审核列表 (selectReviewLessons, status = 'pending_review')
+EXPLAIN ANALYZE
+SELECT l.uuid, v.name, l.status FROM `lesson` l
+JOIN `lesson_version` v ON v.id = (CASE WHEN l.status = 'pending_review' THEN l.pending_version_id ELSE l.current_version_id END)
+WHERE l.is_deleted = 0 AND l.status = 'pending_review'
+ORDER BY l.updated_at DESC LIMIT 20 OFFSET 0;
+
+EXPLAIN ANALYZE
+SELECT l.uuid, v.name, l.status FROM `lesson` l
+JOIN `lesson_version` v ON v.id = l.display_version_id
+WHERE l.is_deleted = 0 AND l.status = 'pending_review'
+ORDER BY l.updated_at DESC LIMIT 20 OFFSET 0;
+
+-- 6. 清理测试数据
+DELETE nc FROM `news_content` nc JOIN `news` n ON n.id = nc.news_id WHERE n.uuid LIKE 'bench-%';
+DELETE FROM `news` WHERE uuid LIKE 'bench-%';
+DELETE v FROM `lesson_version` v JOIN `lesson` l ON l.id = v.lesson_id WHERE l.uuid LIKE 'bench-%';
+DELETE FROM `lesson` WHERE uuid LIKE 'bench-%';
@@ -0,0 +1,106 @@
+-- ====================================================================
+-- 通知收件箱查询基准: 关联业务表解析UUID (旧) vs 冗余 related_object_uuid (新)
+-- 两条查询都使用 NotificationSqlProvider 的 DIRECT UNION ALL BROADCAST 收件箱结构
+-- ====================================================================
+-- 用法 (MySQL 8.0.18+, 需在测试库中执行, 会写入约 100 万条通知):
+--   mysql -u root -p testlinkhub < notification_listing_benchmark.sql
+-- 数据分布: 100 万条定向通知平均分配给 1000 个接收人, 另有 1000 条全员广播, 关联对象在已有用户之间轮换。
+-- 对比 EXPLAIN ANALYZE 输出中的 actual time 与扫描行数即可。
+-- ====================================================================
+
+SET SESSION cte_max_recursion_depth = 1000000;
+SET @recipient_count = 1000;
+SET @user_count = (SELECT COUNT(*) FROM `user`);
+SET @first_user_id = (SELECT MIN(id) FROM `user`);
+SET @bench_recipient = @first_user_id;
+
+-- 1. 生成 100 万条通知 (related_object_uuid 同时写入, 模拟回填完成后的状态)
+INSERT INTO `notification` (`uuid`, `title`, `content`, `type`, `related_object_type`, `related_object_id`, `related_object_uuid`, `created_at`)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000)
+SELECT UUID(), CONCAT('bench-', seq.n), 'benchmark', 'APPLICATION', 'user', u.id, u.uuid,
+       NOW() - INTERVAL seq.n SECOND
+FROM seq
+JOIN `user` u ON u.id = @first_user_id + (seq.n % @user_count);
+
+-- 2. 每条通知一个接收人
+INSERT INTO `notification_recipient` (`notification_id`, `recipient_id`, `is_read`, `is_deleted`, `created_at`)
+SELECT n.id, @first_user_id + (n.id % @recipient_count) % @user_count, 0, 0, n.created_at
+FROM `notification` n
+WHERE n.title LIKE 'bench-%' AND n.audience IS NULL;
+
+-- 3. 另加 1000 条全员广播通知 (只存一行, 不写接收人行), 让收件箱的 BROADCAST 分支同样有数据
+INSERT INTO `notification` (`uuid`, `title`, `content`, `type`, `related_object_type`, `related_object_id`, `related_object_uuid`, `audience`, `created_at`)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT UUID(), CONCAT('bench-broadcast-', seq.n), 'benchmark', 'NEWS', 'user', u.id, u.uuid, 'ALL',
+       NOW() - INTERVAL seq.n SECOND
+FROM seq
+JOIN `user` u ON u.id = @first_user_id + (seq.n % @user_count);
+
+ANALYZE TABLE `notification`, `notification_recipient`;
+
+-- 4. 基准查询: 线上收件箱同样的 DIRECT UNION ALL BROADCAST 结构, 但两个分支只取 related_object_id,
+--    每页对合并结果 LEFT JOIN lesson/news/meeting/user/company 并通过 CASE 解析UUID (冗余列引入前的做法)
+EXPLAIN ANALYZE
+SELECT inbox.uuid, inbox.title, inbox.content, inbox.type, inbox.related_object_type, inbox.created_at,
+       inbox.is_read, inbox.read_at,
+       CASE
+         WHEN inbox.related_object_type = 'LESSON' THEN l.uuid
+         WHEN inbox.related_object_type = 'NEWS' THEN nw.uuid
+         WHEN inbox.related_object_type = 'MEETING' THEN m.uuid
+         WHEN inbox.related_object_type = 'USER' THEN u.uuid
+         WHEN inbox.related_object_type = 'COMPANY' THEN c.uuid
+       END AS relatedObjectUuid
+FROM (
+  SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_id, n.created_at,
+         nr.is_read, nr.read_at
+  FROM notification n
+  JOIN notification_recipient nr ON n.id = nr.notification_id
+  WHERE nr.recipient_id = @bench_recipient AND nr.is_deleted = 0 AND n.audience IS NULL
+  UNION ALL
+  SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_id, n.created_at,
+         CASE WHEN nr.is_read = 1 OR n.created_at <= w.read_before THEN 1 ELSE 0 END AS is_read,
+         CASE WHEN nr.is_read = 1 THEN nr.read_at WHEN n.created_at <= w.read_before THEN w.read_before END AS read_at
+  FROM notification n
+  JOIN `user` ru ON ru.id = @bench_recipient
+  LEFT JOIN notification_recipient nr ON nr.notification_id = n.id AND nr.recipient_id = ru.id
+  LEFT JOIN notification_read_watermark w ON w.user_id = ru.id
+  WHERE (n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id))
+  AND n.created_at >= ru.created_at
+  AND (nr.is_deleted IS NULL OR nr.is_deleted = 0)
+) inbox
+LEFT JOIN `lesson` l ON inbox.related_object_type = 'LESSON' AND inbox.related_object_id = l.id
+LEFT JOIN `news` nw ON inbox.related_object_type = 'NEWS' AND inbox.related_object_id = nw.id
+LEFT JOIN `meeting` m ON inbox.related_object_type = 'MEETING' AND inbox.related_object_id = m.id
+LEFT JOIN `user` u ON inbox.related_object_type = 'USER' AND inbox.related_object_id = u.id
+LEFT JOIN `company` c ON inbox.related_object_type = 'COMPANY' AND inbox.related_object_id = c.id
+ORDER BY inbox.created_at DESC, inbox.id DESC LIMIT 10 OFFSET 0;
+
+-- 5. 线上查询: NotificationSqlProvider.findNotificationsByRecipientId 生成的SQL (isRead 为空),
+--    #{recipientId} / #{limit} / #{offset} 替换为 @bench_recipient / 10 / 0, 其余保持一致;
+--    修改 NotificationSqlProvider 时需同步更新此处
+EXPLAIN ANALYZE
+SELECT inbox.uuid, inbox.title, inbox.content, inbox.type, inbox.related_object_type, inbox.created_at,
+       inbox.is_read, inbox.read_at, inbox.related_object_uuid AS relatedObjectUuid
+FROM (
+  SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid, n.created_at,
+         nr.is_read, nr.read_at
+  FROM notification n
+  JOIN notification_recipient nr ON n.id = nr.notification_id
+  WHERE nr.recipient_id = @bench_recipient AND nr.is_deleted = 0 AND n.audience IS NULL
+  UNION ALL
+  SELECT n.id, n.uuid, n.title, n.content, n.type, n.related_object_type, n.related_object_uuid, n.created_at,
+         CASE WHEN nr.is_read = 1 OR n.created_at <= w.read_before THEN 1 ELSE 0 END AS is_read,
+         CASE WHEN nr.is_read = 1 THEN nr.read_at WHEN n.created_at <= w.read_before THEN w.read_before END AS read_at
+  FROM notification n
+  JOIN `user` ru ON ru.id = @bench_recipient
+  LEFT JOIN notification_recipient nr ON nr.notification_id = n.id AND nr.recipient_id = ru.id
+  LEFT JOIN notification_read_watermark w ON w.user_id = ru.id
+  WHERE (n.audience = 'ALL' OR (n.audience = 'COMPANY' AND n.audience_id = ru.company_id))
+  AND n.created_at >= ru.created_at
+  AND (nr.is_deleted IS NULL OR nr.is_deleted = 0)
+) inbox
+ORDER BY inbox.created_at DESC, inbox.id DESC LIMIT 10 OFFSET 0;
+
+-- 6. 清理基准数据
+DELETE nr FROM `notification_recipient` nr JOIN `notification` n ON n.id = nr.notification_id WHERE n.title LIKE 'bench-%';
+DELETE FROM `notification` WHERE title LIKE 'bench-%';
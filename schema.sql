@@ -110,13 +110,16 @@ CREATE TABLE `news` (
                         `status` enum('pending','published','archived') COLLATE utf8mb4_unicode_ci DEFAULT 'pending' COMMENT '新闻整体状态',
                         `current_content_id` bigint unsigned DEFAULT NULL COMMENT '当前生效的内容版本ID',
                         `pending_content_id` bigint unsigned DEFAULT NULL COMMENT '审核中的内容版本ID',
+                        `display_content_id` bigint unsigned GENERATED ALWAYS AS (CASE WHEN `status` = 'pending' THEN `pending_content_id` ELSE `current_content_id` END) STORED COMMENT '列表展示的内容版本ID (待审核取 pending, 否则取 current, 随状态与指针自动维护)',
                         `is_deleted` tinyint unsigned NOT NULL DEFAULT '0' COMMENT '是否删除 0-未删除 1-已删除',
                         `created_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
                         `updated_at` timestamp NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
                         PRIMARY KEY (`id`),
                         UNIQUE KEY `uk_news_uuid` (`uuid`),
                         KEY `idx_news_company_id` (`company_id`),
-                        KEY `idx_news_status` (`status`)
+                        KEY `idx_news_status` (`status`),
+                        KEY `idx_news_deleted_status_created` (`is_deleted`, `status`, `created_at`),
+                        KEY `idx_news_display_content_id` (`display_content_id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=4 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='新闻主表 (Master)';
 
 
@@ -140,6 +143,52 @@ CREATE TABLE `news_content` (
                                 KEY `idx_news_content_status` (`status`)
 ) ENGINE=InnoDB AUTO_INCREMENT=5 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='新闻内容版本表';
 
+-- 新闻内容版本归档表 (History)
+CREATE TABLE `news_content_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '原 news_content.id (审核历史仍按此ID关联)',
+  `uuid` VARCHAR(36) NOT NULL COMMENT '内容版本唯一标识符',
+  `news_id` BIGINT UNSIGNED NOT NULL COMMENT '关联新闻ID',
+  `title` VARCHAR(255) NOT NULL COMMENT '新闻标题',
+  `summary` TEXT COMMENT '新闻摘要',
+  `cover_image_url` VARCHAR(500) DEFAULT NULL COMMENT '封面图片URL',
+  `resource_url` VARCHAR(255) DEFAULT NULL COMMENT '新闻正文内容 (HTML或Markdown)',
+  `version` INT UNSIGNED NOT NULL DEFAULT 1 COMMENT '版本号',
+  `status` ENUM('pending','published','rejected','archived') DEFAULT 'archived' COMMENT '版本状态',
+  `publisher_id` BIGINT UNSIGNED NOT NULL COMMENT '此版本内容的创建/修改者ID',
+  `is_deleted` TINYINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否删除 0-未删除 1-已删除',
+  `created_at` TIMESTAMP NULL DEFAULT NULL COMMENT '版本创建时间',
+  `archived_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '归档时间',
+  PRIMARY KEY (`id`),
+  KEY `idx_nca_news_id` (`news_id`, `version`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='新闻内容版本归档表 (已被替代的历史版本)';
+
+-- 新闻列表物化视图 (Feed)
+CREATE TABLE `news_feed` (
+  `news_id` BIGINT UNSIGNED NOT NULL COMMENT '新闻ID',
+  `news_uuid` VARCHAR(36) NOT NULL COMMENT '新闻UUID',
+  `company_id` BIGINT UNSIGNED NOT NULL COMMENT '发布公司ID',
+  `visible` TINYINT(1) NOT NULL DEFAULT 1 COMMENT '是否对全部用户可见',
+  `status` ENUM('pending','published','archived') NOT NULL COMMENT '新闻整体状态',
+  `title` VARCHAR(255) NOT NULL COMMENT '展示版本标题',
+  `summary` TEXT COMMENT '展示版本摘要',
+  `cover_image_url` VARCHAR(500) DEFAULT NULL COMMENT '展示版本封面图片URL',
+  `publisher_id` BIGINT UNSIGNED NOT NULL COMMENT '展示版本的创建/修改者ID',
+  `content_created_at` TIMESTAMP NULL DEFAULT NULL COMMENT '展示版本创建时间',
+  `created_at` TIMESTAMP NULL DEFAULT NULL COMMENT '新闻创建时间 (排序键)',
+  PRIMARY KEY (`news_id`),
+  KEY `idx_news_feed_public` (`visible`, `created_at`, `news_id`),
+  KEY `idx_news_feed_company` (`company_id`, `created_at`, `news_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='新闻列表物化视图 (每条未删除新闻的展示版本, 随新闻写操作刷新)';
+
+-- 新闻统计表 (Stats)
+CREATE TABLE `news_stats` (
+  `news_id` BIGINT UNSIGNED NOT NULL COMMENT '新闻ID',
+  `view_count` BIGINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '累计浏览次数 (应用内存聚合后定期批量写入)',
+  `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最近一次写入时间',
+  PRIMARY KEY (`news_id`),
+  KEY `idx_news_stats_view_count` (`view_count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='新闻统计表';
+
 -- 新闻附件关联表
 CREATE TABLE `news_attachment_related` (
   `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '关联主键ID',
@@ -180,6 +229,7 @@ CREATE TABLE `lesson` (
   `status` ENUM('pending_review', 'active', 'rejected', 'archived') NOT NULL DEFAULT 'pending_review' COMMENT '课程的整体状态',
   `current_version_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '当前生效的版本ID',
   `pending_version_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '待审核的版本ID',
+  `display_version_id` BIGINT UNSIGNED GENERATED ALWAYS AS (CASE WHEN `status` = 'pending_review' THEN `pending_version_id` ELSE `current_version_id` END) STORED COMMENT '列表展示的版本ID (待审核取 pending, 否则取 current, 随状态与指针自动维护)',
   `is_deleted` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否删除 0-未删除 1-已删除',
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
@@ -187,7 +237,10 @@ CREATE TABLE `lesson` (
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_lesson_uuid` (`uuid`),
   KEY `idx_lesson_publisher_id` (`publisher_id`),
-  KEY `idx_lesson_status` (`status`)
+  KEY `idx_lesson_status` (`status`),
+  KEY `idx_lesson_deleted_status_created` (`is_deleted`, `status`, `created_at`),
+  KEY `idx_lesson_deleted_status_updated` (`is_deleted`, `status`, `updated_at`),
+  KEY `idx_lesson_display_version_id` (`display_version_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='课程主表 (Master)';
 
 -- 课程版本表 (Version)
@@ -202,6 +255,7 @@ CREATE TABLE `lesson_version` (
   `author_name` VARCHAR(100) DEFAULT NULL COMMENT '作者名称',
   `sort_order` INT UNSIGNED DEFAULT 0 COMMENT '课程排序',
   `status` ENUM('pending_review', 'active', 'rejected', 'archived') NOT NULL DEFAULT 'pending_review' COMMENT '版本状态',
+  `archived_at` TIMESTAMP NULL DEFAULT NULL COMMENT '版本被替代(归档)的时间',
   `creator_id` BIGINT UNSIGNED NOT NULL COMMENT '此版本的创建/修改者ID',
   `is_deleted` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否删除 0-未删除 1-已删除',
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '版本创建时间',
@@ -225,9 +279,48 @@ CREATE TABLE `lesson_resources` (
   `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_lesson_resources_uuid` (`uuid`),
-  KEY `idx_lr_lesson_version_id` (`lesson_version_id`)
+  KEY `idx_lr_version_sort` (`lesson_version_id`, `is_deleted`, `sort_order`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='课程资源表';
 
+-- 课程版本归档表 (History)
+CREATE TABLE `lesson_version_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '原 lesson_version.id (审核历史仍按此ID关联)',
+  `uuid` VARCHAR(36) NOT NULL COMMENT '版本唯一标识符',
+  `lesson_id` BIGINT UNSIGNED NOT NULL COMMENT '关联的课程主表ID',
+  `version` INT UNSIGNED NOT NULL DEFAULT 1 COMMENT '版本号',
+  `name` VARCHAR(255) NOT NULL COMMENT '课程名称',
+  `description` TEXT DEFAULT NULL COMMENT '课程描述',
+  `image_url` VARCHAR(500) DEFAULT NULL COMMENT '课程封面图片URL',
+  `author_name` VARCHAR(100) DEFAULT NULL COMMENT '作者名称',
+  `sort_order` INT UNSIGNED DEFAULT 0 COMMENT '课程排序',
+  `status` ENUM('pending_review', 'active', 'rejected', 'archived') NOT NULL DEFAULT 'archived' COMMENT '版本状态',
+  `creator_id` BIGINT UNSIGNED NOT NULL COMMENT '此版本的创建/修改者ID',
+  `is_deleted` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否删除 0-未删除 1-已删除',
+  `created_at` TIMESTAMP NULL DEFAULT NULL COMMENT '版本创建时间',
+  `archived_at` TIMESTAMP NULL DEFAULT NULL COMMENT '版本被替代的时间',
+  `moved_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '移入归档表的时间',
+  PRIMARY KEY (`id`),
+  KEY `idx_lva_lesson_id` (`lesson_id`, `version`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='课程版本归档表 (已被替代的历史版本)';
+
+-- 课程资源归档表 (History)
+CREATE TABLE `lesson_resources_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '原 lesson_resources.id',
+  `uuid` VARCHAR(36) NOT NULL COMMENT '资源唯一标识符',
+  `lesson_version_id` BIGINT UNSIGNED NOT NULL COMMENT '关联的课程版本ID (lesson_version_archive.id)',
+  `name` VARCHAR(255) NOT NULL COMMENT '资源名称',
+  `resources_url` VARCHAR(500) NOT NULL COMMENT '资源URL地址',
+  `resources_type` ENUM('video', 'audio', 'document', 'image', 'link', 'other') NOT NULL COMMENT '资源类型',
+  `sort_order` INT UNSIGNED DEFAULT 0 COMMENT '资源在课程内的排序',
+  `status` ENUM('active', 'inactive') DEFAULT 'inactive' COMMENT '资源状态',
+  `is_deleted` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否删除 0-未删除 1-已删除',
+  `created_at` TIMESTAMP NULL DEFAULT NULL COMMENT '创建时间',
+  `updated_at` TIMESTAMP NULL DEFAULT NULL COMMENT '更新时间',
+  `moved_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '移入归档表的时间',
+  PRIMARY KEY (`id`),
+  KEY `idx_lra_lesson_version_id` (`lesson_version_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='课程资源归档表 (随版本一起归档)';
+
 
 -- 课程审核历史表
 CREATE TABLE `lesson_audit_history` (
@@ -345,12 +438,16 @@ CREATE TABLE `notification` (
 
   `related_object_type` ENUM('lesson', 'meeting', 'news', 'user', 'company') DEFAULT NULL COMMENT '关联对象类型',
   `related_object_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '关联对象ID (例如 lesson_id, meeting_id)',
+  `related_object_uuid` VARCHAR(36) DEFAULT NULL COMMENT '关联对象UUID (创建时冗余, 列表查询无需关联业务表)',
+  `audience` ENUM('ALL', 'COMPANY') DEFAULT NULL COMMENT '广播范围 (NULL 表示定向通知, 按接收人逐行存储)',
+  `audience_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '广播范围ID (COMPANY 时为公司ID)',
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
   
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_notification_uuid` (`uuid`),
   KEY `idx_notification_type` (`type`),
-  KEY `idx_notification_related_object` (`related_object_type`, `related_object_id`)
+  KEY `idx_notification_related_object` (`related_object_type`, `related_object_id`),
+  KEY `idx_notification_audience` (`audience`, `audience_id`, `created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='通知主表';
 
 
@@ -365,9 +462,74 @@ CREATE TABLE `notification_recipient` (
   `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '接收时间',
   PRIMARY KEY (`id`),
   UNIQUE KEY `uk_notification_recipient` (`notification_id`, `recipient_id`),
-  KEY `idx_nr_recipient_id_is_read` (`recipient_id`, `is_read`)
+  KEY `idx_nr_recipient_id_is_read` (`recipient_id`, `is_read`),
+  KEY `idx_nr_created_at` (`created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='通知接收人及状态表';
 
+-- 通知接收人归档表 (超过保留期的定向通知接收人行, 主键包含 created_at 以便按月分区)
+CREATE TABLE `notification_recipient_archive` (
+  `id` BIGINT UNSIGNED NOT NULL COMMENT '原 notification_recipient.id',
+  `notification_id` BIGINT UNSIGNED NOT NULL COMMENT '关联的通知ID',
+  `recipient_id` BIGINT UNSIGNED NOT NULL COMMENT '接收用户ID',
+  `is_read` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否已读 (0-未读, 1-已读)',
+  `read_at` TIMESTAMP NULL DEFAULT NULL COMMENT '读取时间',
+  `is_deleted` TINYINT(1) UNSIGNED NOT NULL DEFAULT 0 COMMENT '是否被用户删除 (0-未删除, 1-已删除)',
+  `created_at` TIMESTAMP NOT NULL COMMENT '接收时间 (分区键)',
+  `archived_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '归档时间',
+  PRIMARY KEY (`id`, `created_at`),
+  KEY `idx_nra_recipient_id` (`recipient_id`, `is_deleted`),
+  KEY `idx_nra_notification_id` (`notification_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='通知接收人归档表';
+
+-- 广播通知已读水位表 (早于 read_before 的广播通知视为已读)
+CREATE TABLE `notification_read_watermark` (
+  `user_id` BIGINT UNSIGNED NOT NULL COMMENT '用户ID',
+  `read_before` TIMESTAMP NOT NULL COMMENT '已读水位',
+  `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`user_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='广播通知已读水位表';
+
+-- 通知分发任务表 (公司/全员通知的流式分发断点)
+CREATE TABLE `notification_fanout_job` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+  `notification_id` BIGINT UNSIGNED NOT NULL COMMENT '关联的通知ID',
+  `audience` ENUM('ALL', 'COMPANY') NOT NULL COMMENT '分发范围',
+  `audience_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '分发范围ID (COMPANY 时为公司ID)',
+  `last_recipient_id` BIGINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '已提交的最后一个接收用户ID (断点)',
+  `processed_count` BIGINT UNSIGNED NOT NULL DEFAULT 0 COMMENT '已写入的接收人数量',
+  `status` ENUM('RUNNING', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'RUNNING' COMMENT '任务状态',
+  `attempts` INT UNSIGNED NOT NULL DEFAULT 0 COMMENT '断点续传次数',
+  `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '最后一次提交时间',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_fanout_notification_id` (`notification_id`),
+  KEY `idx_fanout_status_updated_at` (`status`, `updated_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='通知分发任务表';
+
+-- 通知 outbox (与业务变更同一事务写入, 由分发器异步分发)
+CREATE TABLE `notification_outbox` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+  `notification_uuid` VARCHAR(36) NOT NULL COMMENT '待创建通知的UUID (重复分发时用于去重)',
+  `target_type` ENUM('COMPANY', 'ALL', 'MEETING') NOT NULL COMMENT '分发目标类型',
+  `target_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '分发目标ID (公司ID / 会议ID)',
+  `title` VARCHAR(255) NOT NULL COMMENT '通知标题',
+  `content` TEXT NOT NULL COMMENT '通知内容',
+  `related_object_type` VARCHAR(20) DEFAULT NULL COMMENT '关联对象类型',
+  `related_object_id` BIGINT UNSIGNED DEFAULT NULL COMMENT '关联对象ID',
+  `status` ENUM('PENDING', 'DISPATCHED', 'FAILED') NOT NULL DEFAULT 'PENDING' COMMENT '分发状态',
+  `attempts` INT UNSIGNED NOT NULL DEFAULT 0 COMMENT '已失败次数',
+  `next_attempt_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '下一次可分发时间 (退避)',
+  `locked_by` VARCHAR(64) DEFAULT NULL COMMENT '租约持有节点',
+  `locked_until` TIMESTAMP NULL DEFAULT NULL COMMENT '租约到期时间',
+  `last_error` VARCHAR(500) DEFAULT NULL COMMENT '最近一次失败原因',
+  `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP COMMENT '写入时间',
+  `dispatched_at` TIMESTAMP NULL DEFAULT NULL COMMENT '分发完成时间',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_outbox_notification_uuid` (`notification_uuid`),
+  KEY `idx_outbox_status_next_attempt` (`status`, `next_attempt_at`),
+  KEY `idx_outbox_locked_by` (`locked_by`, `locked_until`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='通知事务性 outbox';
+
 
 
 -- ====================================================================
@@ -380,14 +542,21 @@ CREATE TABLE `notification_recipient` (
 -- news.company_id -> company.id
 -- news_content.news_id -> news.id
 -- news_content.publisher_id -> user.id
+-- news_content_archive.news_id -> news.id
+-- news_feed.news_id -> news.id
+-- news_stats.news_id -> news.id
 -- news_attachment_related.news_content_id -> news_content.id
 -- news_attachment_related.attachment_id -> attachment.id
 -- news_audit_history.news_content_id -> news_content.id
 -- news_audit_history.auditor_id -> user.id
+-- news.display_content_id -> news_content.id (生成列)
 -- lesson.publisher_id -> user.id
+-- lesson.display_version_id -> lesson_version.id (生成列)
 -- lesson_version.lesson_id -> lesson.id
 -- lesson_version.creator_id -> user.id
 -- lesson_resources.lesson_version_id -> lesson_version.id
+-- lesson_version_archive.lesson_id -> lesson.id
+-- lesson_resources_archive.lesson_version_id -> lesson_version_archive.id
 -- lesson_audit_history.lesson_version_id -> lesson_version.id
 -- lesson_audit_history.auditor_id -> user.id
 -- meeting.creator_id -> user.id
@@ -397,6 +566,11 @@ CREATE TABLE `notification_recipient` (
 -- meeting_participant.user_id -> user.id
 -- meeting_audit_history.meeting_version_id -> meeting_version.id
 -- meeting_audit_history.auditor_id -> user.id
+-- notification_fanout_job.notification_id -> notification.id
+-- notification_read_watermark.user_id -> user.id
+-- notification_recipient_archive.notification_id -> notification.id
+-- notification_recipient_archive.recipient_id -> user.id
+-- notification_outbox.notification_uuid -> notification.uuid (分发后)
 
 -- 创建附加索引以优化查询性能
 CREATE INDEX `idx_user_name` ON `user` (`name`);